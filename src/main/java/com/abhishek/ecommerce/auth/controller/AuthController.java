@@ -9,7 +9,10 @@ import com.abhishek.ecommerce.auth.service.RefreshTokenService;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
+import com.abhishek.ecommerce.security.jwt.JwtUtil;
+import com.abhishek.ecommerce.security.jwt.VerifiedTokenCache;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +33,7 @@ public class AuthController {
     private final AuthService authService;
     private final RefreshTokenService refreshTokenService;
     private final SecurityUtils securityUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     // ============================
     // SIGNUP (REGISTER)
@@ -87,11 +91,12 @@ public class AuthController {
         description = "Revokes the refresh token for the current user session"
     )
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request) {
         String username = securityUtils.getCurrentUsername();
         if (username != null) {
             refreshTokenService.deleteByUsername(username);
         }
+        verifiedTokenCache.invalidate(JwtUtil.resolveToken(request));
         return ResponseEntity.ok(ApiResponseBuilder.success("Logged out successfully", null));
     }
 }
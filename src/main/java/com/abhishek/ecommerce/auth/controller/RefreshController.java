@@ -9,11 +9,11 @@ import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
 import com.abhishek.ecommerce.user.repository.UserRepository;
 import com.abhishek.ecommerce.user.entity.User;
-import com.abhishek.ecommerce.shared.enums.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -36,20 +36,16 @@ public class RefreshController {
         description = "Generates new access token using valid refresh token"
     )
     @PostMapping("/refresh")
-    public ResponseEntity<ApiResponse<AuthResponseDto>> refresh(@RequestBody RefreshRequestDto request) {
-        String provided = request.getRefreshToken();
-        RefreshToken rt = refreshTokenService.validateAndGet(provided);
+    public ResponseEntity<ApiResponse<AuthResponseDto>> refresh(@RequestBody RefreshRequestDto request,
+                                                                HttpServletRequest httpRequest) {
+        // Rotates: the presented token is spent, the response carries its successor
+        RefreshToken newRefreshTokenEntity = refreshTokenService.rotate(request.getRefreshToken(), httpRequest.getRemoteAddr());
 
-        String username = rt.getUsername();
-        
         // Get user to retrieve role and userId
-        User user = userRepository.findByEmail(username)
+        User user = userRepository.findByEmail(newRefreshTokenEntity.getUsername())
                 .orElseThrow(() -> new IllegalStateException("User not found"));
 
-        String newAccess = jwtUtil.generateToken(username, user.getRoles().stream().map(Role::name).toList());
-
-        // replace persisted refresh token
-        RefreshToken newRefreshTokenEntity = refreshTokenService.createOrReplaceRefreshToken(user);
+        String newAccess = jwtUtil.generateToken(user);
         String newRefresh = newRefreshTokenEntity.getToken();
 
         AuthResponseDto dto = AuthResponseDto.builder()
@@ -4,6 +4,7 @@ import com.abhishek.ecommerce.common.baseEntity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -17,14 +18,25 @@ import java.time.Instant;
 @NoArgsConstructor
 public class RefreshToken extends BaseEntity {
 
-    @Column(name = "token", nullable = false, unique = true, length = 512)
+    // SHA-256 of the token; the token itself is never stored
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    // Raw token, only set on the instance returned when it is issued
+    @Transient
     private String token;
 
     @Column(name = "username", nullable = false)
     private String username;
 
+    // Shared by every token rotated from the same login
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
-    
-}
 
+    // Set when this token was exchanged for a new one; presenting it again is reuse
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+}
@@ -0,0 +1,17 @@
+package com.abhishek.ecommerce.auth.exception;
+
+import com.abhishek.ecommerce.common.exception.BusinessException;
+
+public class PasswordHashingBusyException extends BusinessException {
+
+    private final int retryAfterSeconds;
+
+    public PasswordHashingBusyException(int retryAfterSeconds) {
+        super("Too many sign-in requests, please retry shortly", "PASSWORD_HASHING_BUSY");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,32 @@
+package com.abhishek.ecommerce.auth.repository;
+
+import com.abhishek.ecommerce.auth.entity.PasswordResetToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
+
+    Optional<PasswordResetToken> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * Single-use claim: only one node can delete the row, and only before it expires
+     */
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.tokenHash = :tokenHash AND t.expiresAt > :now")
+    int consume(@Param("tokenHash") byte[] tokenHash, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    // One purge batch: ids only, oldest first (uses idx_password_reset_tokens_expires_at)
+    @Query("SELECT t.id FROM PasswordResetToken t WHERE t.expiresAt < :cutoff ORDER BY t.expiresAt")
+    List<Long> findExpiredIds(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
@@ -1,18 +1,36 @@
 package com.abhishek.ecommerce.auth.repository;
 
 import com.abhishek.ecommerce.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long>
 {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * Claim a token for rotation; 0 rows means it was already rotated (reuse or a concurrent refresh)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.rotatedAt = :now WHERE r.id = :id AND r.rotatedAt IS NULL")
+    int markRotated(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
 
     @Modifying
     @Query("DELETE FROM RefreshToken r WHERE r.username = :username")
     void deleteByUsername(String username);
-}
 
+    // One purge batch: ids only, oldest first (uses idx_refresh_tokens_expires_at)
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiresAt < :cutoff ORDER BY r.expiresAt")
+    List<Long> findExpiredIds(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
@@ -4,8 +4,21 @@ import com.abhishek.ecommerce.auth.entity.RefreshToken;
 import com.abhishek.ecommerce.user.entity.User;
 
 public interface RefreshTokenService {
-    RefreshToken createOrReplaceRefreshToken(User user);
-    RefreshToken validateAndGet(String token);
+
+    /**
+     * Issue a refresh token starting a new family (login); the raw token is on the returned entity
+     */
+    RefreshToken createRefreshToken(User user);
+
+    /**
+     * Exchange a refresh token for the next one in its family; presenting a rotated token revokes the family
+     */
+    RefreshToken rotate(String token, String ipAddress);
+
     void deleteByUsername(String username);
-}
 
+    /**
+     * Delete expired tokens in batches; returns the number of rows removed
+     */
+    int purgeExpired();
+}
@@ -7,8 +7,11 @@ import com.abhishek.ecommerce.auth.dto.SignupResponseDto;
 import com.abhishek.ecommerce.auth.service.AuthService;
 import com.abhishek.ecommerce.auth.service.RefreshTokenService;
 import com.abhishek.ecommerce.config.appProperties.SecurityProperties;
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.security.authentication.LoginAttemptTracker;
 import com.abhishek.ecommerce.security.jwt.JwtUtil;
 import com.abhishek.ecommerce.security.events.SecurityEventLogger;
+import com.abhishek.ecommerce.security.userDetails.CustomUserDetails;
 import com.abhishek.ecommerce.shared.enums.AuthProvider;
 import com.abhishek.ecommerce.shared.enums.Role;
 import com.abhishek.ecommerce.user.entity.User;
@@ -19,7 +22,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -42,9 +47,8 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenService refreshTokenService;
     private final SecurityEventLogger securityEventLogger;
     private final SecurityProperties securityProperties;
-
-    private int maxFailedAttempts;
-    private int lockoutDurationMinutes;
+    private final NegativeLookupCache negativeLookupCache;
+    private final LoginAttemptTracker loginAttemptTracker;
 
     @Override
     @Transactional
@@ -65,6 +69,7 @@ public class AuthServiceImpl implements AuthService {
         user.setProvider(AuthProvider.LOCAL);
 
         user = userRepository.save(user);
+        negativeLookupCache.forget(NegativeLookupCache.USER_MISSES, NegativeLookupCache.emailKey(user.getEmail()));
 
         // Return user info only (no tokens on signup)
         return SignupResponseDto.builder()
@@ -75,114 +80,96 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = AuthenticationException.class)
     public AuthResponseDto login(LoginRequestDto request) {
-        // Load config values from SecurityProperties at method entry so changes to env will be picked up each call
-        this.maxFailedAttempts = securityProperties.getMaxFailedAttempts();
-        this.lockoutDurationMinutes = securityProperties.getLockoutDurationMinutes();
-
         String ipAddress = getClientIpAddress();
-        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
 
-        try {
-            // Check if account is locked
-            if (user != null && isAccountLocked(user)) {
-                securityEventLogger.logLoginFailure(request.getEmail(), ipAddress, "Account is locked");
-                throw new IllegalStateException("Account is locked. Please try again later.");
-            }
+        if (loginAttemptTracker.isBlocked(ipAddress)) {
+            securityEventLogger.logLoginFailure(request.getEmail(), ipAddress, "Too many failed logins from this address");
+            throw new IllegalStateException("Too many failed login attempts. Please try again later.");
+        }
 
-            authenticationManager.authenticate(
+        Authentication authentication;
+        try {
+            // Loads the user once and rejects locked (users.locked_until) or inactive accounts
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getEmail(),
                             request.getPassword()
                     )
             );
+        } catch (LockedException ex) {
+            securityEventLogger.logLoginFailure(request.getEmail(), ipAddress, "Account is locked");
+            throw new IllegalStateException("Account is locked. Please try again later.");
+        } catch (BadCredentialsException ex) {
+            handleFailedLogin(request.getEmail(), ipAddress);
+            throw new BadCredentialsException("Invalid email or password");
+        } catch (AuthenticationException ex) {
+            securityEventLogger.logLoginFailure(request.getEmail(), ipAddress, ex.getMessage());
+            throw new BadCredentialsException("Invalid email or password");
+        }
 
-            // Authentication successful - reset failed attempts
-            if (user != null) {
-                user.setFailedLoginAttempts(0);
-                user.setLockedUntil(null);
-                userRepository.save(user);
-            }
-
-            user = userRepository.findByEmail(request.getEmail())
-                    .orElseThrow(() -> new IllegalStateException("User not found"));
-
-            if (user.getStatus() != UserStatus.ACTIVE) {
-                securityEventLogger.logLoginFailure(request.getEmail(), ipAddress, "User account is not active");
-                throw new IllegalStateException("User is not active");
-            }
+        User user = ((CustomUserDetails) authentication.getPrincipal()).getUser();
 
-            String token = jwtUtil.generateToken(user.getEmail(), user.getRoles().stream().map(Role::name).toList());
-            com.abhishek.ecommerce.auth.entity.RefreshToken refreshTokenEntity = refreshTokenService.createOrReplaceRefreshToken(user);
-            String refreshToken = refreshTokenEntity.getToken();
+        // Only write when there is failure state to clear (a persisted lock, possibly expired)
+        loginAttemptTracker.reset(user.getEmail());
+        if (user.getLockedUntil() != null || (user.getFailedLoginAttempts() != null && user.getFailedLoginAttempts() > 0)) {
+            user.setFailedLoginAttempts(0);
+            user.setLockedUntil(null);
+            userRepository.save(user);
+        }
 
-            // Log successful login
-            securityEventLogger.logLoginSuccess(user.getEmail(), ipAddress);
+        String token = jwtUtil.generateToken(user);
+        com.abhishek.ecommerce.auth.entity.RefreshToken refreshTokenEntity = refreshTokenService.createRefreshToken(user);
+        String refreshToken = refreshTokenEntity.getToken();
 
-            return AuthResponseDto.builder()
-                    .token(token)
-                    .userId(user.getId())
-                    .email(user.getEmail())
-                    .roles(user.getRoles().stream().map(r -> r.name().replace("ROLE_", "")).collect(java.util.stream.Collectors.toSet())) // Convert ROLE_USER to USER
-                    .tokenType("Bearer")
-                    .refreshToken(refreshToken)
-                    .refreshTokenExpiryMs(refreshTokenEntity.getExpiresAt().toEpochMilli())
-                    .build();
+        // Log successful login
+        securityEventLogger.logLoginSuccess(user.getEmail(), ipAddress);
 
-        } catch (AuthenticationException ex) {
-            // Authentication failed - increment failed attempts
-            if (user != null) {
-                handleFailedLogin(user, ipAddress);
-            } else {
-                securityEventLogger.logLoginFailure(request.getEmail(), ipAddress, "Invalid credentials");
-            }
-            throw new BadCredentialsException("Invalid email or password");
-        }
+        return AuthResponseDto.builder()
+                .token(token)
+                .userId(user.getId())
+                .email(user.getEmail())
+                .roles(user.getRoles().stream().map(r -> r.name().replace("ROLE_", "")).collect(java.util.stream.Collectors.toSet())) // Convert ROLE_USER to USER
+                .tokenType("Bearer")
+                .refreshToken(refreshToken)
+                .refreshTokenExpiryMs(refreshTokenEntity.getExpiresAt().toEpochMilli())
+                .build();
     }
 
-    private void handleFailedLogin(User user, String ipAddress) {
-        int attempts = (user.getFailedLoginAttempts() == null ? 0 : user.getFailedLoginAttempts()) + 1;
-        user.setFailedLoginAttempts(attempts);
+    /**
+     * Count the failure in memory; the users row is only written when the threshold is crossed
+     */
+    private void handleFailedLogin(String email, String ipAddress) {
+        // Read config on each failure so changes to env are picked up
+        int maxFailedAttempts = securityProperties.getMaxFailedAttempts();
+        int attempts = loginAttemptTracker.recordFailure(email, ipAddress);
 
         if (attempts >= maxFailedAttempts) {
-            user.setLockedUntil(LocalDateTime.now().plusMinutes(lockoutDurationMinutes));
-            securityEventLogger.logAccountLockout(user.getEmail(), ipAddress, attempts);
+            LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(securityProperties.getLockoutDurationMinutes());
+            if (userRepository.lockAccount(email, lockedUntil, attempts) > 0) {
+                securityEventLogger.logAccountLockout(email, ipAddress, attempts);
+            } else {
+                securityEventLogger.logLoginFailure(email, ipAddress, "Invalid credentials");
+            }
+            loginAttemptTracker.reset(email);
         } else {
-            securityEventLogger.logLoginFailure(user.getEmail(), ipAddress, 
+            securityEventLogger.logLoginFailure(email, ipAddress,
                     "Invalid credentials. Attempts: " + attempts + "/" + maxFailedAttempts);
         }
-
-        userRepository.save(user);
-    }
-
-    private boolean isAccountLocked(User user) {
-        if (user.getLockedUntil() == null) {
-            return false;
-        }
-        if (user.getLockedUntil().isAfter(LocalDateTime.now())) {
-            return true;
-        }
-        // Lock expired - reset
-        user.setLockedUntil(null);
-        user.setFailedLoginAttempts(0);
-        userRepository.save(user);
-        return false;
     }
 
+    /**
+     * Client address used for the per-IP login block. Never read from X-Forwarded-For here:
+     * the header is client supplied, so it could rotate past the block or pin it on a victim.
+     * The container resolves trusted proxy headers (server.forward-headers-strategy) into
+     * getRemoteAddr(), the same key RateLimitFilter uses.
+     */
     private String getClientIpAddress() {
         try {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
             if (attributes != null) {
                 HttpServletRequest request = attributes.getRequest();
-                String xForwardedFor = request.getHeader("X-Forwarded-For");
-                if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-                    return xForwardedFor.split(",")[0].trim();
-                }
-                String xRealIp = request.getHeader("X-Real-IP");
-                if (xRealIp != null && !xRealIp.isEmpty()) {
-                    return xRealIp;
-                }
                 return request.getRemoteAddr();
             }
         } catch (Exception e) {
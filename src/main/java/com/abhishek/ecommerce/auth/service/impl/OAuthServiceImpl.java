@@ -2,6 +2,7 @@ package com.abhishek.ecommerce.auth.service.impl;
 
 import com.abhishek.ecommerce.auth.dto.OAuthResponseDto;
 import com.abhishek.ecommerce.auth.service.OAuthService;
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
 import com.abhishek.ecommerce.security.jwt.JwtUtil;
 import com.abhishek.ecommerce.shared.enums.AuthProvider;
 import com.abhishek.ecommerce.shared.enums.Role;
@@ -22,6 +23,7 @@ public class OAuthServiceImpl implements OAuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final NegativeLookupCache negativeLookupCache;
 
     @Override
     public OAuthResponseDto handleOAuthLogin(OAuth2User oAuth2User, String provider) {
@@ -37,10 +39,12 @@ public class OAuthServiceImpl implements OAuthService {
                     newUser.setRoles(Set.of(Role.ROLE_USER));
                     newUser.setStatus(UserStatus.ACTIVE);
                     newUser.setProvider(AuthProvider.valueOf(provider.toUpperCase()));
-                    return userRepository.save(newUser);
+                    User savedUser = userRepository.save(newUser);
+                    negativeLookupCache.forget(NegativeLookupCache.USER_MISSES, NegativeLookupCache.emailKey(email));
+                    return savedUser;
                 });
 
-        String token = jwtUtil.generateToken(user.getEmail(), user.getRoles().stream().map(Role::name).toList());
+        String token = jwtUtil.generateToken(user);
 
         return OAuthResponseDto.builder()
                 .email(user.getEmail())
@@ -0,0 +1,160 @@
+package com.abhishek.ecommerce.auth.service.impl;
+
+import com.abhishek.ecommerce.auth.entity.PasswordResetToken;
+import com.abhishek.ecommerce.auth.repository.PasswordResetTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Password reset tokens shared by all replicas
+ *
+ * - password_reset_tokens is the source of truth (SHA-256 of the token, email, expiry), so a
+ *   reset requested on one node can be completed on another
+ * - Tokens are single use: consuming one is a conditional DELETE that only one node can win
+ * - Tokens issued here are also kept in a local Caffeine cache with per-entry expiry (a timer
+ *   wheel: O(1) amortized reclamation, driven by a scheduler rather than by lookups), which
+ *   saves the SELECT when the reset completes on the same node
+ * - Expired rows are purged in batches by {@link #purgeExpired()}
+ */
+@Slf4j
+@Component
+public class PasswordResetTokenStore {
+
+    private static final int PURGE_BATCH_SIZE = 500;
+    private static final long MAX_LOCAL_ENTRIES = 10_000;
+
+    private final PasswordResetTokenRepository repository;
+    private final Cache<String, Issued> issued;
+
+    public PasswordResetTokenStore(PasswordResetTokenRepository repository) {
+        this.repository = repository;
+        this.issued = Caffeine.newBuilder()
+                .maximumSize(MAX_LOCAL_ENTRIES)
+                .expireAfter(new Expiry<String, Issued>() {
+                    @Override
+                    public long expireAfterCreate(String key, Issued value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Issued value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Issued value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    /**
+     * Create a reset token for the email, replacing any outstanding one; returns the raw token
+     */
+    @Transactional
+    public String issue(String email, Duration ttl) {
+        repository.deleteByEmail(email);
+
+        String token = UUID.randomUUID().toString();
+        byte[] hash = sha256(token);
+        Instant expiresAt = Instant.now().plus(ttl);
+
+        PasswordResetToken row = new PasswordResetToken();
+        row.setTokenHash(hash);
+        row.setEmail(email);
+        row.setExpiresAt(expiresAt);
+        repository.save(row);
+
+        issued.put(key(hash), new Issued(email, expiresAt));
+        return token;
+    }
+
+    /**
+     * Use up a reset token; returns the email it was issued for
+     */
+    @Transactional
+    public String consume(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Invalid or expired reset token");
+        }
+        byte[] hash = sha256(token);
+        String key = key(hash);
+        Instant now = Instant.now();
+
+        Issued entry = issued.getIfPresent(key);
+        if (entry == null) {
+            entry = repository.findByTokenHash(hash)
+                    .map(row -> new Issued(row.getEmail(), row.getExpiresAt()))
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid or expired reset token"));
+        }
+        if (!entry.expiresAt().isAfter(now)) {
+            issued.invalidate(key);
+            throw new IllegalArgumentException("Reset token has expired");
+        }
+
+        // 0 rows: already used, or replaced by a newer request (possibly on another node)
+        if (repository.consume(hash, now) == 0) {
+            issued.invalidate(key);
+            throw new IllegalArgumentException("Invalid or expired reset token");
+        }
+        issued.invalidate(key);
+        return entry.email();
+    }
+
+    /**
+     * Each batch is its own short DELETE by primary key
+     */
+    @Scheduled(fixedDelayString = "${config.security.password-reset-purge-interval-ms:900000}",
+            initialDelayString = "${config.security.password-reset-purge-interval-ms:900000}")
+    public int purgeExpired() {
+        Instant cutoff = Instant.now();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = repository.findExpiredIds(cutoff, PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                repository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == PURGE_BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.info("Purged {} expired password reset tokens", deleted);
+        }
+        return deleted;
+    }
+
+    private static String key(byte[] hash) {
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Issued(String email, Instant expiresAt) {
+    }
+}
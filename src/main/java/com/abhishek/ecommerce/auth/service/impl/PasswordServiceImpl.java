@@ -4,6 +4,8 @@ import com.abhishek.ecommerce.auth.service.PasswordService;
 import com.abhishek.ecommerce.auth.service.RefreshTokenService;
 import com.abhishek.ecommerce.config.appProperties.SecurityProperties;
 import com.abhishek.ecommerce.security.events.SecurityEventLogger;
+import com.abhishek.ecommerce.security.jwt.SecurityVersions;
+import com.abhishek.ecommerce.security.jwt.VerifiedTokenCache;
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
 import com.abhishek.ecommerce.user.entity.User;
 import com.abhishek.ecommerce.user.repository.UserRepository;
@@ -17,8 +19,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import com.abhishek.ecommerce.notification.NotificationService;
 
-import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.Duration;
 
 @Slf4j
 @Service
@@ -32,10 +33,9 @@ public class PasswordServiceImpl implements PasswordService {
     private final SecurityEventLogger securityEventLogger;
     private final SecurityProperties securityProperties;
     private final NotificationService notificationService;
-
-    // In-memory store for reset tokens (in production, use Redis or database)
-    // For now, we'll use a simple approach - in production, create a PasswordResetToken entity
-    private final java.util.Map<String, PasswordResetTokenInfo> resetTokens = new java.util.concurrent.ConcurrentHashMap<>();
+    private final SecurityVersions securityVersions;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PasswordResetTokenStore passwordResetTokenStore;
 
     @Override
     @Transactional
@@ -57,7 +57,10 @@ public class PasswordServiceImpl implements PasswordService {
         user.setPasswordHash(passwordEncoder.encode(newPassword));
         user.setFailedLoginAttempts(0);
         user.setLockedUntil(null);
+        // Revoke outstanding access tokens as well
+        securityVersions.bump(user);
         userRepository.save(user);
+        verifiedTokenCache.invalidateUser(user.getId());
 
         // Invalidate all refresh tokens (force re-login)
         refreshTokenService.deleteByUsername(username);
@@ -81,11 +84,8 @@ public class PasswordServiceImpl implements PasswordService {
             return;
         }
 
-        // Generate reset token
-        String resetToken = UUID.randomUUID().toString();
-        LocalDateTime expiry = LocalDateTime.now().plusHours(resetTokenExpiryHours);
-        
-        resetTokens.put(resetToken, new PasswordResetTokenInfo(email, expiry));
+        // Generate reset token (replaces any outstanding one for this email)
+        String resetToken = passwordResetTokenStore.issue(email, Duration.ofHours(resetTokenExpiryHours));
 
         String ipAddress = getClientIpAddress();
         securityEventLogger.logPasswordResetRequest(email, ipAddress);
@@ -93,38 +93,26 @@ public class PasswordServiceImpl implements PasswordService {
         // Send password reset email (async side effect)
         notificationService.sendPasswordResetEmail(email, resetToken);
 
-        // In production, send email with reset link
-        // For now, just log it
-        log.info("Password reset token generated for user: {} | Token: {} | Expires: {}", 
-                email, resetToken, expiry);
-        // TODO: Send email with reset link: /api/auth/password/reset?token={resetToken}
+        log.info("Password reset token generated for user: {} | Expires in: {}h", email, resetTokenExpiryHours);
     }
 
     @Override
     @Transactional
     public void resetPassword(String resetToken, String newPassword) {
-        PasswordResetTokenInfo tokenInfo = resetTokens.get(resetToken);
-        
-        if (tokenInfo == null) {
-            throw new IllegalArgumentException("Invalid or expired reset token");
-        }
-
-        if (tokenInfo.expiry.isBefore(LocalDateTime.now())) {
-            resetTokens.remove(resetToken);
-            throw new IllegalArgumentException("Reset token has expired");
-        }
+        // Single use across all nodes; rolled back with the rest if the reset fails
+        String email = passwordResetTokenStore.consume(resetToken);
 
-        User user = userRepository.findByEmail(tokenInfo.email)
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("User not found"));
 
         // Update password
         user.setPasswordHash(passwordEncoder.encode(newPassword));
         user.setFailedLoginAttempts(0);
         user.setLockedUntil(null);
+        // Revoke outstanding access tokens as well
+        securityVersions.bump(user);
         userRepository.save(user);
-
-        // Remove used token
-        resetTokens.remove(resetToken);
+        verifiedTokenCache.invalidateUser(user.getId());
 
         // Invalidate all refresh tokens
         refreshTokenService.deleteByUsername(user.getEmail());
@@ -155,15 +143,4 @@ public class PasswordServiceImpl implements PasswordService {
         }
         return "unknown";
     }
-
-    private static class PasswordResetTokenInfo {
-        final String email;
-        final LocalDateTime expiry;
-
-        PasswordResetTokenInfo(String email, LocalDateTime expiry) {
-            this.email = email;
-            this.expiry = expiry;
-        }
-    }
 }
-
@@ -3,57 +3,72 @@ package com.abhishek.ecommerce.auth.service.impl;
 import com.abhishek.ecommerce.auth.entity.RefreshToken;
 import com.abhishek.ecommerce.auth.repository.RefreshTokenRepository;
 import com.abhishek.ecommerce.auth.service.RefreshTokenService;
+import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.security.events.SecurityEventLogger;
 import com.abhishek.ecommerce.security.jwt.JwtUtil;
 import com.abhishek.ecommerce.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
+import java.util.UUID;
 
+/**
+ * Refresh tokens stored as SHA-256 digests, rotated on every use
+ *
+ * Each login starts a token family. A refresh marks the presented token as rotated and issues
+ * the next one in the same family. Presenting a rotated token again means it was copied, so the
+ * whole family is revoked and that session has to log in again.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     private final RefreshTokenRepository repository;
     private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
+    private final SecurityEventLogger securityEventLogger;
 
     @Override
     @Transactional
-    public RefreshToken createOrReplaceRefreshToken(User user) {
-
-        // 1️⃣ Generate token internally
-        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
-
-        // 2️⃣ Calculate expiry internally
-        Instant expiry = Instant.now()
-                .plusSeconds(jwtUtil.getRefreshExpirationSeconds());
-
-        // 3️⃣ Save / replace
-        repository.deleteByUsername(user.getEmail());
-
-        RefreshToken entity = new RefreshToken();
-        entity.setUsername(user.getEmail());
-        entity.setToken(refreshToken);
-        entity.setExpiresAt(expiry);
-
-        return repository.save(entity);
+    public RefreshToken createRefreshToken(User user) {
+        return issue(user.getEmail(), UUID.randomUUID().toString());
     }
 
     @Override
-    @Transactional
-    public RefreshToken validateAndGet(String token) {
-        Optional<RefreshToken> opt = repository.findByToken(token);
-        if (opt.isEmpty()) {
+    // The family revocation on reuse must commit even though the caller gets an error
+    @Transactional(noRollbackFor = IllegalStateException.class)
+    public RefreshToken rotate(String token, String ipAddress) {
+        if (token == null || token.isBlank()) {
             throw new IllegalStateException("Invalid refresh token");
         }
-        RefreshToken rt = opt.get();
-        if (rt.getExpiresAt().isBefore(Instant.now())) {
-            repository.delete(rt);
+        RefreshToken current = repository.findByTokenHash(sha256(token))
+                .orElseThrow(() -> new IllegalStateException("Invalid refresh token"));
+
+        Instant now = Instant.now();
+        if (current.getExpiresAt().isBefore(now)) {
+            // Left for purgeExpired
             throw new IllegalStateException("Refresh token expired");
         }
-        return rt;
+
+        if (current.getRotatedAt() != null || repository.markRotated(current.getId(), now) == 0) {
+            int revoked = repository.deleteByFamilyId(current.getFamilyId());
+            log.warn("Refresh token reuse for {}; revoked {} token(s) of family {}",
+                    current.getUsername(), revoked, current.getFamilyId());
+            securityEventLogger.logTokenMisuse(current.getUsername(), ipAddress, "Rotated refresh token presented again");
+            throw new IllegalStateException("Refresh token has already been used");
+        }
+
+        return issue(current.getUsername(), current.getFamilyId());
     }
 
     @Override
@@ -61,5 +76,52 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     public void deleteByUsername(String username) {
         repository.deleteByUsername(username);
     }
-}
 
+    /**
+     * Each batch is its own short DELETE by primary key, so no long range locks are held
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${config.jwt.refresh-token-purge-interval-ms:3600000}",
+            initialDelayString = "${config.jwt.refresh-token-purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        Instant cutoff = Instant.now();
+        int batchSize = jwtProperties.getRefreshTokenPurgeBatchSize();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = repository.findExpiredIds(cutoff, PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                repository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == batchSize);
+
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+        return deleted;
+    }
+
+    private RefreshToken issue(String username, String familyId) {
+        String token = jwtUtil.generateRefreshToken(username);
+
+        RefreshToken entity = new RefreshToken();
+        entity.setUsername(username);
+        entity.setTokenHash(sha256(token));
+        entity.setFamilyId(familyId);
+        entity.setExpiresAt(Instant.now().plusSeconds(jwtUtil.getRefreshExpirationSeconds()));
+
+        RefreshToken saved = repository.save(entity);
+        saved.setToken(token);
+        return saved;
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
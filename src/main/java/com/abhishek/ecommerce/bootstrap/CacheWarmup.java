@@ -0,0 +1,134 @@
+package com.abhishek.ecommerce.bootstrap;
+
+import com.abhishek.ecommerce.config.appProperties.WarmupProperties;
+import com.abhishek.ecommerce.order.repository.OrderItemRepository;
+import com.abhishek.ecommerce.product.service.BrandService;
+import com.abhishek.ecommerce.product.service.CategoryService;
+import com.abhishek.ecommerce.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms caches (and optionally the JIT) before the instance reports ready
+ *
+ * Flow:
+ * 1. Runs as an ApplicationRunner: Spring Boot only publishes ReadinessState.ACCEPTING_TRAFFIC
+ *    after all runners return, so /actuator/health/readiness stays OUT_OF_SERVICE until warm-up ends
+ * 2. Loads through the service proxies so results land in the caches:
+ *    active categories, active brands, first page of active products, best-selling products
+ * 3. Optionally replays synthetic GETs against the local server to warm the JIT; they carry the
+ *    WarmupRequests token so the rate limiter does not throttle them
+ * 4. Gives up after config.warmup.timeout; startup continues with whatever is warm
+ *
+ * Runs on a single thread so it holds at most one pooled DB connection.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "config.warmup", name = "enabled", havingValue = "true")
+public class CacheWarmup implements ApplicationRunner {
+
+    private final CategoryService categoryService;
+    private final BrandService brandService;
+    private final ProductService productService;
+    private final OrderItemRepository orderItemRepository;
+    private final WarmupProperties warmupProperties;
+    private final WarmupRequests warmupRequests;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "cache-warmup"));
+        Future<?> warmup = executor.submit(this::warmUp);
+        try {
+            warmup.get(warmupProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Warm-up completed in {}ms", System.currentTimeMillis() - start);
+        } catch (TimeoutException e) {
+            warmup.cancel(true);
+            log.warn("Warm-up timed out after {}ms, continuing startup", System.currentTimeMillis() - start);
+        } catch (ExecutionException e) {
+            log.warn("Warm-up failed, continuing startup", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void warmUp() {
+        step("active categories", categoryService::getAllActiveCategories);
+        step("active brands", brandService::getAllActiveBrands);
+        step("first active product page", () -> productService.getAllActiveProducts(
+                PageRequest.of(0, warmupProperties.getFirstPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"))));
+        step("top-selling products", this::loadTopSellingProducts);
+
+        if (warmupProperties.getJitIterations() > 0) {
+            step("synthetic requests", this::replaySyntheticRequests);
+        }
+    }
+
+    private void loadTopSellingProducts() {
+        List<Long> productIds = orderItemRepository.findTopSellingProductIds(
+                PageRequest.of(0, warmupProperties.getTopProducts()));
+        for (Long productId : productIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            productService.getProductById(productId);
+        }
+    }
+
+    private void replaySyntheticRequests() {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            log.debug("No local web server, skipping synthetic requests");
+            return;
+        }
+        RestClient client = RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(WarmupRequests.HEADER, warmupRequests.token())
+                .build();
+        for (int i = 0; i < warmupProperties.getJitIterations(); i++) {
+            for (String path : warmupProperties.getJitPaths()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                client.get().uri(path).retrieve().toBodilessEntity();
+            }
+        }
+    }
+
+    private void step(String name, Runnable action) {
+        long start = System.currentTimeMillis();
+        try {
+            action.run();
+            log.info("Warm-up: {} loaded in {}ms", name, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // A failed step leaves that part cold; it must not block startup
+            log.warn("Warm-up: {} failed: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.abhishek.ecommerce.bootstrap;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Marks the synthetic requests CacheWarmup sends to the local server
+ *
+ * RateLimitFilter lets marked requests through, so the JIT replay neither hits the catalog limit
+ * nor drains the loopback client's bucket. The token is random per process, never logged, and
+ * only honoured from a loopback address.
+ */
+@Component
+public class WarmupRequests {
+
+    public static final String HEADER = "X-Warmup-Token";
+
+    private final String token;
+
+    public WarmupRequests() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public String token() {
+        return token;
+    }
+
+    public boolean isWarmupRequest(HttpServletRequest request) {
+        String header = request.getHeader(HEADER);
+        return header != null
+                && isLoopback(request.getRemoteAddr())
+                && MessageDigest.isEqual(token.getBytes(StandardCharsets.US_ASCII), header.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static boolean isLoopback(String remoteAddr) {
+        try {
+            // remoteAddr is an IP literal, so this never resolves a host name
+            return remoteAddr != null && InetAddress.getByName(remoteAddr).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
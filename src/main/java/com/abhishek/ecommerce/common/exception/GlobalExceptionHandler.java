@@ -1,9 +1,11 @@
 package com.abhishek.ecommerce.common.exception;
 
 import com.abhishek.ecommerce.auth.exception.InvalidCredentialsException;
+import com.abhishek.ecommerce.auth.exception.PasswordHashingBusyException;
 import com.abhishek.ecommerce.cart.exception.CartItemNotFoundException;
 import com.abhishek.ecommerce.cart.exception.CartNotFoundException;
 import com.abhishek.ecommerce.common.apiResponse.ErrorResponse;
+import com.abhishek.ecommerce.config.cache.admin.CacheNotFoundException;
 import com.abhishek.ecommerce.inventory.exception.InsufficientStockException;
 import com.abhishek.ecommerce.inventory.exception.InventoryNotFoundException;
 import com.abhishek.ecommerce.order.exception.OrderNotFoundException;
@@ -13,6 +15,7 @@ import com.abhishek.ecommerce.product.exception.*;
 import com.abhishek.ecommerce.user.exception.UserAlreadyExistsException;
 import com.abhishek.ecommerce.user.exception.UserNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -41,6 +44,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(ex.getErrorCode(), ex.getMessage(), HttpStatus.UNAUTHORIZED.value()));
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        log.warn("PasswordHashingBusyException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(ex.getErrorCode(), ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
 
 
     // ========================= USER EXCEPTIONS =========================
@@ -163,6 +174,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(ex.getErrorCode(), ex.getMessage(), HttpStatus.BAD_REQUEST.value()));
     }
 
+    // ========================= CACHE EXCEPTIONS =========================
+    @ExceptionHandler(CacheNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCacheNotFound(CacheNotFoundException ex) {
+        log.error("CacheNotFoundException: {}", ex.getMessage(), ex);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(ex.getErrorCode(), ex.getMessage(), HttpStatus.NOT_FOUND.value()));
+    }
+
     // ========================= VALIDATION EXCEPTIONS =========================
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
@@ -0,0 +1,30 @@
+package com.abhishek.ecommerce.common.utils;
+
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * The authenticated user of the current request, as resolved once by {@link SecurityUtils#getCurrentUser()}
+ * Read-only snapshot; load the User entity when it needs to be modified.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final Long id;
+    private final String email;
+    private final Set<Role> roles;
+    private final SellerStatus sellerStatus;
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+
+    public boolean isAdmin() {
+        return hasRole(Role.ROLE_ADMIN);
+    }
+}
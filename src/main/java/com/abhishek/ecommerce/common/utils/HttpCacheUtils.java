@@ -0,0 +1,110 @@
+package com.abhishek.ecommerce.common.utils;
+
+import com.abhishek.ecommerce.common.apiResponse.PageResponseDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * HTTP validators (ETag / Last-Modified) for read endpoints
+ *
+ * Returning a 200 ResponseEntity that carries an ETag or Last-Modified is enough:
+ * Spring MVC compares it with If-None-Match / If-Modified-Since and answers 304
+ * without writing the body.
+ *
+ * Single resources get a strong ETag from id + updatedAt (plus any embedded fields
+ * that change without touching the row). Listings get a weak ETag from the max
+ * updatedAt of their items and their count, plus a hash of embedded fields when the
+ * items carry any.
+ */
+public final class HttpCacheUtils {
+
+    private HttpCacheUtils() {
+        // prevent instantiation
+    }
+
+    public static <T> ResponseEntity<T> ok(T body, String etag, LocalDateTime lastModified, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl);
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        if (lastModified != null) {
+            builder.lastModified(toEpochMilli(lastModified));
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Strong ETag for one resource; null (no validator) when the row has no updatedAt yet
+     */
+    public static String strongEtag(Object id, LocalDateTime updatedAt, Object... embedded) {
+        if (id == null || updatedAt == null) {
+            return null;
+        }
+        String etag = id + "-" + toEpochMilli(updatedAt);
+        if (embedded.length > 0) {
+            etag += "-" + Integer.toHexString(Objects.hash(embedded));
+        }
+        return "\"" + etag + "\"";
+    }
+
+    /**
+     * Weak ETag for a page: newest updatedAt on the page, page size and total count
+     */
+    public static <T> String weakPageEtag(PageResponseDto<T> page, Function<T, LocalDateTime> updatedAt) {
+        return weakPageEtag(page, updatedAt, null);
+    }
+
+    /**
+     * Weak page ETag that also covers fields embedded from other rows (e.g. a product's category
+     * name), which change without touching the item's updatedAt
+     */
+    public static <T> String weakPageEtag(PageResponseDto<T> page, Function<T, LocalDateTime> updatedAt,
+                                          Function<T, ?> embedded) {
+        if (page == null || page.getContent() == null) {
+            return null;
+        }
+        return weakEtag(page.getContent(), updatedAt, embedded, page.getTotalElements());
+    }
+
+    /**
+     * Weak ETag for an unpaged list: newest updatedAt and count
+     */
+    public static <T> String weakListEtag(Collection<T> items, Function<T, LocalDateTime> updatedAt) {
+        if (items == null) {
+            return null;
+        }
+        return weakEtag(items, updatedAt, null, items.size());
+    }
+
+    private static <T> String weakEtag(Collection<T> items, Function<T, LocalDateTime> updatedAt,
+                                       Function<T, ?> embedded, long total) {
+        long newest = 0;
+        int embeddedHash = 1;
+        for (T item : items) {
+            LocalDateTime itemUpdatedAt = updatedAt.apply(item);
+            if (itemUpdatedAt == null) {
+                // Cannot tell whether this item changed
+                return null;
+            }
+            newest = Math.max(newest, toEpochMilli(itemUpdatedAt));
+            if (embedded != null) {
+                embeddedHash = 31 * embeddedHash + Objects.hashCode(embedded.apply(item));
+            }
+        }
+        String etag = newest + "-" + items.size() + "-" + total;
+        if (embedded != null) {
+            etag += "-" + Integer.toHexString(embeddedHash);
+        }
+        return "W/\"" + etag + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
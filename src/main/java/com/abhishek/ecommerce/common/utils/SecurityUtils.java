@@ -1,20 +1,31 @@
 package com.abhishek.ecommerce.common.utils;
 
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import com.abhishek.ecommerce.shared.enums.Role;
 import com.abhishek.ecommerce.shared.enums.SellerStatus;
 import com.abhishek.ecommerce.user.repository.UserRepository;
 import com.abhishek.ecommerce.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component("securityUtils")
 @RequiredArgsConstructor
 public class SecurityUtils {
 
+    private static final String CURRENT_USER_ATTRIBUTE = SecurityUtils.class.getName() + ".CURRENT_USER";
+
     private final UserRepository userRepository;
     private final UserDetailsService userDetailsService;
 
@@ -32,10 +43,36 @@ public class SecurityUtils {
         return auth.getName();
     }
 
+    /**
+     * The authenticated user, resolved at most once per request
+     *
+     * JWT requests build it from the token claims (no query); session and OAuth2 logins
+     * load the user by email once. The result is kept in the request attributes for as long
+     * as the authentication stays the same, so every caller in the request shares it.
+     * Outside a request it is resolved on each call.
+     */
+    public CurrentUser getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null
+                && request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Resolved resolved
+                && resolved.authentication() == auth) {
+            return resolved.user();
+        }
+
+        CurrentUser user = resolve(auth);
+        if (request != null) {
+            request.setAttribute(CURRENT_USER_ATTRIBUTE, new Resolved(auth, user), RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
     public Long getCurrentUserId() {
-        String username = getCurrentUsername();
-        if (username == null) return null;
-        User user = userRepository.findByEmail(username).orElse(null);
+        CurrentUser user = getCurrentUser();
         return user != null ? user.getId() : null;
     }
 
@@ -46,22 +83,42 @@ public class SecurityUtils {
 
     /**
      * Check if current user is an approved seller.
-     * Fetches fresh seller status from database (source of truth).
      * Used by navbar to conditionally show seller links.
      */
     public boolean isSellerApproved() {
-        Long userId = getCurrentUserId();
-        if (userId == null) return false;
-        
-        // Check seller status directly from User entity (source of truth)
+        CurrentUser user = getCurrentUser();
+        return user != null && SellerStatus.APPROVED.equals(user.getSellerStatus());
+    }
+
+    private CurrentUser resolve(Authentication auth) {
+        if (auth.getPrincipal() instanceof JwtUserPrincipal principal) {
+            Set<Role> roles = principal.getAuthorities().stream()
+                    .map(authority -> toRole(authority.getAuthority()))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new CurrentUser(principal.getUserId(), principal.getUsername(), roles, principal.getSellerStatus());
+        }
+
+        String username = getCurrentUsername();
+        if (username == null) return null;
+        return userRepository.findByEmail(username)
+                .map(user -> new CurrentUser(user.getId(), user.getEmail(),
+                        user.getRoles() == null ? Set.of() : Set.copyOf(user.getRoles()),
+                        user.getSellerStatus()))
+                .orElse(null);
+    }
+
+    private static Role toRole(String authority) {
         try {
-            var user = userRepository.findById(userId).orElse(null);
-            return user != null && SellerStatus.APPROVED.equals(user.getSellerStatus());
-        } catch (Exception e) {
-            return false;
+            return Role.valueOf(authority);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
+    private record Resolved(Authentication authentication, CurrentUser user) {
+    }
+
     /**
      * Refresh the user's Spring Security principal after status changes.
      * This is called after user updates (like seller approval) to immediately
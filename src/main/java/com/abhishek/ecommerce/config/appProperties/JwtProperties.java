@@ -7,6 +7,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "config.jwt")
 @Validated
@@ -28,6 +31,25 @@ public class JwtProperties {
     @Positive
     private long refreshTokenExpiration; // in ms
 
+    /**
+     * Key rotation: tokens are signed with accessSecret and carry accessKeyId as their kid header.
+     * To rotate, move the old secret into previousAccessSecrets under its kid, then set a new
+     * accessSecret/accessKeyId; remove the old entry once its tokens have expired.
+     */
+    @NotBlank
+    private String accessKeyId = "primary";
+
+    // kid -> retired secret, accepted for verification only
+    private Map<String, String> previousAccessSecrets = new LinkedHashMap<>();
+
+    // Max access tokens remembered as already verified (see VerifiedTokenCache)
+    @Positive
+    private long verifiedTokenCacheMaxSize = 10_000;
+
+    // Expired refresh tokens deleted per statement by the purge job (short transactions)
+    @Positive
+    private int refreshTokenPurgeBatchSize = 500;
+
     public String getAccessSecret() {
         return accessSecret;
     }
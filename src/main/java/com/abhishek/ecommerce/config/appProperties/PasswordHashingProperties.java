@@ -0,0 +1,48 @@
+package com.abhishek.ecommerce.config.appProperties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * BCrypt cost and the bounded pool it runs on (see BoundedPasswordEncoder)
+ * Binds from application.yml:
+ * config.password-hashing.strength=10
+ * config.password-hashing.threads=4
+ * config.password-hashing.queue-capacity=32
+ * config.password-hashing.retry-after-seconds=2
+ *
+ * Pick the strength with BCryptCostBenchmark on the target hardware; existing hashes keep
+ * verifying at the cost they were created with.
+ */
+@Component
+@ConfigurationProperties(prefix = "config.password-hashing")
+@Validated
+@Getter
+@Setter
+@NoArgsConstructor
+public class PasswordHashingProperties {
+
+    @Min(4)
+    @Max(31)
+    private int strength = 10;
+
+    // Concurrent hashes; more than the CPU count only adds contention
+    @Positive
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Hashes waiting for a thread before new ones are refused with 503
+    @PositiveOrZero
+    private int queueCapacity = 32;
+
+    // Retry-After sent with the 503
+    @Positive
+    private int retryAfterSeconds = 2;
+}
@@ -0,0 +1,78 @@
+package com.abhishek.ecommerce.config.appProperties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process rate limiting (see RateLimitFilter)
+ * Binds from application.yml:
+ * config.rate-limit.enabled=true
+ * config.rate-limit.policies.auth.key=ip
+ * config.rate-limit.policies.auth.capacity=10
+ * config.rate-limit.policies.auth.refill-period=1m
+ * config.rate-limit.policies.auth.paths=/api/v1/auth/**,/login
+ * config.rate-limit.policies.auth.methods=POST
+ *
+ * Policies are checked in order; the first one whose paths and methods match applies.
+ * A policy is bound as a whole, so define every field in the same profile.
+ */
+@Component
+@ConfigurationProperties(prefix = "config.rate-limit")
+@Validated
+@Getter
+@Setter
+@NoArgsConstructor
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+
+    // Upper bound on buckets held in memory; least recently used clients are dropped first
+    @Positive
+    private long maxTrackedClients = 100_000;
+
+    // A client's bucket is dropped after this long without requests (it would be full again anyway)
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // Route policies by name (auth, checkout, catalog, ...)
+    private Map<String, @Valid Policy> policies = new LinkedHashMap<>();
+
+    public enum KeyType {
+        // Client IP (request.getRemoteAddr(); set server.forward-headers-strategy behind a proxy)
+        IP,
+        // Authenticated user, falling back to the client IP for anonymous requests
+        USER
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Policy {
+
+        private KeyType key = KeyType.IP;
+
+        // Burst size: requests allowed at once before throttling
+        @Positive
+        private long capacity = 60;
+
+        // Time to refill the whole capacity (tokens are added gradually)
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        // Ant patterns matched against the request URI
+        private List<String> paths = new ArrayList<>();
+
+        // HTTP methods the policy applies to; empty = all
+        private List<String> methods = new ArrayList<>();
+    }
+}
@@ -0,0 +1,42 @@
+package com.abhishek.ecommerce.config.appProperties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Security event pipeline (see SecurityEventLogger)
+ * Binds from application.yml:
+ * config.security-events.buffer-size=8192
+ * config.security-events.batch-size=256
+ * config.security-events.idle-wait=50ms
+ *
+ * Events arriving while the buffer is full are dropped and counted in security.events.dropped.
+ */
+@Component
+@ConfigurationProperties(prefix = "config.security-events")
+@Validated
+@Getter
+@Setter
+@NoArgsConstructor
+public class SecurityEventProperties {
+
+    // Rounded up to a power of two
+    @Positive
+    @Max(1 << 20)
+    private int bufferSize = 8192;
+
+    // Events the drain thread takes off the buffer per batch (each is still logged on its own)
+    @Positive
+    private int batchSize = 256;
+
+    // How long the drain thread sleeps when the buffer is empty
+    private Duration idleWait = Duration.ofMillis(50);
+}
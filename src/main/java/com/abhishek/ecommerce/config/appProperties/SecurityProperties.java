@@ -22,6 +22,14 @@ public class SecurityProperties {
     @Positive
     private int passwordResetTokenExpiryHours;
 
+    // Sliding window for counting failed logins (see LoginAttemptTracker)
+    @Positive
+    private int failedAttemptWindowMinutes = 15;
+
+    // Failed logins from one address (across all emails) before it is refused
+    @Positive
+    private int maxFailedAttemptsPerIp = 50;
+
     public int getMaxFailedAttempts() {
         return maxFailedAttempts;
     }
@@ -45,5 +53,21 @@ public class SecurityProperties {
     public void setPasswordResetTokenExpiryHours(int passwordResetTokenExpiryHours) {
         this.passwordResetTokenExpiryHours = passwordResetTokenExpiryHours;
     }
+
+    public int getFailedAttemptWindowMinutes() {
+        return failedAttemptWindowMinutes;
+    }
+
+    public void setFailedAttemptWindowMinutes(int failedAttemptWindowMinutes) {
+        this.failedAttemptWindowMinutes = failedAttemptWindowMinutes;
+    }
+
+    public int getMaxFailedAttemptsPerIp() {
+        return maxFailedAttemptsPerIp;
+    }
+
+    public void setMaxFailedAttemptsPerIp(int maxFailedAttemptsPerIp) {
+        this.maxFailedAttemptsPerIp = maxFailedAttemptsPerIp;
+    }
 }
 
@@ -0,0 +1,47 @@
+package com.abhishek.ecommerce.config.appProperties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Startup warm-up configuration (see CacheWarmup)
+ * Binds from application.yml:
+ * config.warmup.enabled=true
+ * config.warmup.timeout=60s
+ * config.warmup.top-products=50
+ * config.warmup.jit-iterations=200
+ */
+@Component
+@ConfigurationProperties(prefix = "config.warmup")
+@Getter
+@Setter
+@NoArgsConstructor
+public class WarmupProperties {
+
+    private boolean enabled = false;
+
+    // Readiness is held back at most this long; whatever is not loaded by then stays cold
+    private Duration timeout = Duration.ofSeconds(60);
+
+    // Best-selling product ids preloaded into the products cache
+    private int topProducts = 50;
+
+    // Page size of the preloaded first page of active products (homepage uses 12)
+    private int firstPageSize = 12;
+
+    // Synthetic GET requests replayed against the local server per path (0 = skip)
+    private int jitIterations = 0;
+
+    private List<String> jitPaths = new ArrayList<>(List.of(
+            "/api/v1/products/active/paged?size=12&sort=createdAt,desc",
+            "/api/v1/categories/active",
+            "/api/v1/brands/active"
+    ));
+}
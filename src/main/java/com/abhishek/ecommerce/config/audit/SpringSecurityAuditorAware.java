@@ -1,36 +1,51 @@
 package com.abhishek.ecommerce.config.audit;
 
-import com.abhishek.ecommerce.user.repository.UserRepository;
+import com.abhishek.ecommerce.common.utils.SecurityUtils;
+import com.abhishek.ecommerce.security.userDetails.CustomUserDetails;
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
+/**
+ * createdBy/updatedBy = id of the authenticated user, "SYSTEM" otherwise
+ *
+ * Called for every insert and update, so the id comes from the principal whenever it carries
+ * one (JWT claims, form-login user). Other principals (OAuth2 sessions) go through
+ * SecurityUtils, which looks the user up once per request.
+ */
 @Component("springSecurityAuditorAware")
 @RequiredArgsConstructor
 public class SpringSecurityAuditorAware implements AuditorAware<String> {
 
-    private final UserRepository userRepository;
+    static final String SYSTEM = "SYSTEM";
+
+    private final SecurityUtils securityUtils;
     private final EntityManager entityManager;
 
     @Override
     public Optional<String> getCurrentAuditor() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return Optional.of("SYSTEM");
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.of(SYSTEM);
         }
 
-        // Get userId instead of username
-        String username = authentication.getName();
-        if (username == null) {
-            return Optional.of("SYSTEM");
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtUserPrincipal jwtPrincipal && jwtPrincipal.getUserId() != null) {
+            return Optional.of(jwtPrincipal.getUserId().toString());
+        }
+        if (principal instanceof CustomUserDetails userDetails && userDetails.getUser().getId() != null) {
+            return Optional.of(userDetails.getUser().getId().toString());
         }
 
         // Disable auto-flush to prevent infinite recursion during @PreUpdate callbacks
@@ -38,12 +53,10 @@ public class SpringSecurityAuditorAware implements AuditorAware<String> {
         FlushMode previousFlushMode = session.getHibernateFlushMode();
         try {
             session.setHibernateFlushMode(FlushMode.MANUAL);
-            return userRepository.findByEmail(username)
-                    .map(user -> user.getId().toString())
-                    .or(() -> Optional.of("SYSTEM"));
+            Long userId = securityUtils.getCurrentUserId();
+            return Optional.of(userId != null ? userId.toString() : SYSTEM);
         } finally {
             session.setHibernateFlushMode(previousFlushMode);
         }
     }
 }
-
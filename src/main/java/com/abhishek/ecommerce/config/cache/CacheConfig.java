@@ -1,24 +1,110 @@
 package com.abhishek.ecommerce.config.cache;
 
+import com.abhishek.ecommerce.common.apiResponse.PageResponseDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.abhishek.ecommerce.config.cache.invalidation.CacheInvalidationPublisher;
+import com.abhishek.ecommerce.security.authorization.RoleVersions;
+import com.abhishek.ecommerce.security.jwt.SecurityVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caffeine-backed cache manager.
+ * Every cache is bounded (size or weight), expires per its spec and records stats,
+ * which Spring Boot actuator publishes as cache.gets / cache.evictions / cache.load.duration.
+ * Caffeine's eviction policy is W-TinyLFU, so one-off reads do not push out hot entries.
+ * Caches are wrapped in {@link CoalescingCaffeineCache} so sync=true lookups load once per key
+ * and evictions are published to the other replicas through the cache_invalidations table.
+ */
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    public static final List<String> CACHE_NAMES = List.of(
+            "products",
+            "productPages",
+            "productJson",
+            "categories",
+            "brands",
+            "users",
+            SecurityVersions.CACHE_NAME,
+            RoleVersions.CACHE_NAME,
+            "inventory",
+            "orders",
+            NegativeLookupCache.PRODUCT_MISSES,
+            NegativeLookupCache.CATEGORY_MISSES,
+            NegativeLookupCache.BRAND_MISSES,
+            NegativeLookupCache.USER_MISSES
+    );
+
+    private final CacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<CacheInvalidationPublisher> invalidationPublisher;
+
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-                "products",
-                "categories",
-                "brands",
-                "users",
-                "inventory",
-                "orders"
-        );
+        CacheInvalidationPublisher publisher = invalidationPublisher.getIfAvailable();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                // Single-flight loading for @Cacheable(sync = true) callers
+                return new CoalescingCaffeineCache(name, cache, isAllowNullValues(), meterRegistry, publisher);
+            }
+        };
+        // Only the caches registered below exist; unknown names fail fast instead of growing unbounded
+        cacheManager.setCacheNames(List.of());
+        for (String name : CACHE_NAMES) {
+            cacheManager.registerCustomCache(name, buildCache(cacheProperties.specFor(name)));
+        }
+        return cacheManager;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(CacheProperties.CacheSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight())
+                    .weigher((Object key, Object value) -> weigh(value));
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Approximate entry weight: lists/pages count their elements, byte arrays their length
+     */
+    private static int weigh(Object value) {
+        if (value instanceof PageResponseDto<?> page && page.getContent() != null) {
+            return Math.max(1, page.getContent().size());
+        }
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        if (value instanceof byte[] bytes) {
+            return Math.max(1, bytes.length);
+        }
+        return 1;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.abhishek.ecommerce.config.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache sizing and expiry configuration
+ * Binds from application.yml:
+ * config.cache.defaults.*        -> spec applied to any cache without its own entry, and to
+ *                                   every setting a per-cache entry leaves unset
+ * config.cache.specs.<name>.*    -> per-cache overrides (products, categories, ...)
+ * config.cache.invalidation.*    -> cross-replica invalidation log (see CacheInvalidationPoller)
+ *
+ * Example:
+ * config.cache.specs.products.maximum-size=10000
+ * config.cache.specs.products.expire-after-write=10m
+ */
+@Component
+@ConfigurationProperties(prefix = "config.cache")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CacheProperties {
+
+    private CacheSpec defaults = CacheSpec.builtInDefaults();
+
+    private Map<String, CacheSpec> specs = new LinkedHashMap<>();
+
+    private Invalidation invalidation = new Invalidation();
+
+    /**
+     * Resolve the effective spec for a cache: its own entry if configured, with unset values
+     * taken from the defaults
+     */
+    public CacheSpec specFor(String cacheName) {
+        CacheSpec spec = specs.get(cacheName);
+        return spec == null ? defaults : spec.withDefaults(defaults);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CacheSpec {
+
+        // Max number of entries; ignored when maximumWeight is set
+        private Long maximumSize;
+
+        // Max total weight (collections/pages weigh their element count, byte[] their length)
+        private Long maximumWeight;
+
+        private Duration expireAfterWrite;
+
+        private Duration expireAfterAccess;
+
+        static CacheSpec builtInDefaults() {
+            CacheSpec spec = new CacheSpec();
+            spec.setMaximumSize(1000L);
+            spec.setExpireAfterWrite(Duration.ofMinutes(10));
+            return spec;
+        }
+
+        CacheSpec withDefaults(CacheSpec defaults) {
+            CacheSpec merged = new CacheSpec();
+            merged.setMaximumSize(maximumSize != null ? maximumSize : defaults.getMaximumSize());
+            merged.setMaximumWeight(maximumWeight != null ? maximumWeight : defaults.getMaximumWeight());
+            merged.setExpireAfterWrite(expireAfterWrite != null ? expireAfterWrite : defaults.getExpireAfterWrite());
+            merged.setExpireAfterAccess(expireAfterAccess != null ? expireAfterAccess : defaults.getExpireAfterAccess());
+            return merged;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Invalidation {
+
+        // Publish/poll evictions through the cache_invalidations table
+        private boolean enabled = true;
+
+        // Read by @Scheduled through placeholders
+        private long pollIntervalMs = 1000;
+        private long purgeIntervalMs = 60000;
+
+        // Max new rows applied per poll
+        private int batchSize = 500;
+
+        // How far back to re-check for rows that committed after a higher id
+        private Duration lookback = Duration.ofSeconds(10);
+
+        // Rows older than this are deleted
+        private Duration retention = Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.abhishek.ecommerce.config.cache;
+
+import com.abhishek.ecommerce.config.cache.invalidation.CacheInvalidationPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caffeine cache with single-flight loading for {@code @Cacheable(sync = true)}.
+ *
+ * The first caller that misses a key becomes the leader and runs the loader;
+ * concurrent callers for the same key wait on the leader's result instead of
+ * hitting the database themselves. Waiters are counted in cache.coalesced.waiters.
+ *
+ * Evictions and clears are also published to the other replicas when a
+ * {@link CacheInvalidationPublisher} is configured.
+ */
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedWaiters;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public CoalescingCaffeineCache(String name,
+                                   com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                   boolean allowNullValues,
+                                   MeterRegistry meterRegistry) {
+        this(name, cache, allowNullValues, meterRegistry, null);
+    }
+
+    public CoalescingCaffeineCache(String name,
+                                   com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                   boolean allowNullValues,
+                                   MeterRegistry meterRegistry,
+                                   CacheInvalidationPublisher invalidationPublisher) {
+        super(name, cache, allowNullValues);
+        this.invalidationPublisher = invalidationPublisher;
+        this.coalescedWaiters = Counter.builder("cache.coalesced.waiters")
+                .description("Callers that waited on another thread's in-flight load instead of loading themselves")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.loads.in.flight", inFlight, ConcurrentMap::size)
+                .description("Keys currently being loaded")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Fast path: asMap().get does not touch hit/miss stats, super.get below records them once
+        if (getNativeCache().asMap().containsKey(key)) {
+            return super.get(key, valueLoader);
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            coalescedWaiters.increment();
+            try {
+                return (T) leader.join();
+            } catch (CompletionException ex) {
+                // Re-throw the leader's failure as-is so callers see the same exception type
+                if (ex.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw ex;
+            }
+        }
+
+        try {
+            // Caffeine records the load time for this call
+            T value = super.get(key, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        publishEvict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        // Other replicas may hold the key even if this one does not
+        publishEvict(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        publishClear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = super.invalidate();
+        publishClear();
+        return notEmpty;
+    }
+
+    private void publishEvict(Object key) {
+        if (invalidationPublisher != null) {
+            invalidationPublisher.publishEvict(getName(), key);
+        }
+    }
+
+    private void publishClear() {
+        if (invalidationPublisher != null) {
+            invalidationPublisher.publishClear(getName());
+        }
+    }
+
+    /**
+     * Number of callers that have been coalesced onto another caller's load so far
+     */
+    public long getCoalescedWaiterCount() {
+        return (long) coalescedWaiters.count();
+    }
+}
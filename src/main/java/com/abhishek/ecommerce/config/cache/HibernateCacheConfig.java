@@ -0,0 +1,93 @@
+package com.abhishek.ecommerce.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache (JCache region factory on Caffeine's JCache provider)
+ *
+ * Regions:
+ * categoryEntity / brandEntity   -> read-mostly reference data joined into every product
+ * default-query-results-region   -> queries marked org.hibernate.cacheable
+ * default-update-timestamps-region -> table change times used to drop stale query results, never expires
+ *
+ * Sizes and expiry come from config.cache.specs.<region> like the Spring caches. The L2 cache is
+ * local to each replica; HibernateRegionInvalidator drops the category/brand and query regions
+ * when the invalidation log reports a remote category/brand change. Keep security data
+ * (user roles, credentials) out of it.
+ * Per-region hit/miss/put counts are exported as hibernate.second.level.cache.* metrics.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HibernateCacheConfig {
+
+    public static final String CATEGORY_REGION = "categoryEntity";
+    public static final String BRAND_REGION = "brandEntity";
+
+    public static final List<String> REGION_NAMES = List.of(
+            CATEGORY_REGION,
+            BRAND_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME
+    );
+
+    private final CacheProperties cacheProperties;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        // Own URI per context: the provider hands out one manager per URI for the whole JVM
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : REGION_NAMES) {
+            cacheManager.createCache(region, regionConfiguration(cacheProperties.specFor(region)));
+        }
+        // Evicting a timestamp could serve stale query results, so this one is unbounded (one entry per table)
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Only the regions created above exist; a typo in @Cache(region) fails at startup
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Required for the per-region metrics
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(CacheProperties.CacheSpec spec) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        if (spec.getMaximumSize() != null) {
+            configuration.setMaximumSize(OptionalLong.of(spec.getMaximumSize()));
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(spec.getExpireAfterWrite().toNanos()));
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            configuration.setExpireAfterAccess(OptionalLong.of(spec.getExpireAfterAccess().toNanos()));
+        }
+        return configuration;
+    }
+}
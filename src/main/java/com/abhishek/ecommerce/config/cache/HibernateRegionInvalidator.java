@@ -0,0 +1,64 @@
+package com.abhishek.ecommerce.config.cache;
+
+import com.abhishek.ecommerce.config.cache.invalidation.CacheInvalidation;
+import com.abhishek.ecommerce.config.cache.invalidation.RemoteInvalidationListener;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
+import com.abhishek.ecommerce.product.entity.Brand;
+import com.abhishek.ecommerce.product.entity.Category;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Drops this replica's L2 category/brand regions and query results when another replica
+ * changes categories or brands
+ *
+ * The categories/brands caches and product listings (which embed category and brand names) are
+ * reloaded through the L2 cache, so without this a remote eviction would re-cache the stale
+ * entities until the regions expire. Category/brand writes clear whole caches, so whole regions go.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HibernateRegionInvalidator implements RemoteInvalidationListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void beforeEviction(List<CacheInvalidation> rows) {
+        boolean categories = false;
+        boolean brands = false;
+        for (CacheInvalidation row : rows) {
+            switch (row.getCacheName()) {
+                case "categories" -> categories = true;
+                case "brands" -> brands = true;
+                case CatalogVersions.CACHE_NAME -> {
+                    if (CatalogVersions.touchesReferenceData(row.getCacheKey())) {
+                        categories = true;
+                        brands = true;
+                    }
+                }
+                default -> { }
+            }
+        }
+        if (!categories && !brands) {
+            return;
+        }
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (categories) {
+            cache.evictEntityData(Category.class);
+        }
+        if (brands) {
+            cache.evictEntityData(Brand.class);
+        }
+        // Only category/brand lookups are marked cacheable
+        cache.evictQueryRegions();
+        log.debug("Evicted L2 regions after remote invalidation categories={} brands={}", categories, brands);
+    }
+}
@@ -0,0 +1,72 @@
+package com.abhishek.ecommerce.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+
+/**
+ * Remembers lookups that found nothing, so repeated requests for missing ids/emails
+ * (bots, stale links) are answered without a DB round trip.
+ *
+ * Misses live in their own short-TTL caches (productMisses, categoryMisses, ...),
+ * sized separately from the positive caches so they cannot push real entries out.
+ * Creating the matching row must call {@link #forget}.
+ */
+@Component
+@RequiredArgsConstructor
+public class NegativeLookupCache {
+
+    public static final String PRODUCT_MISSES = "productMisses";
+    public static final String CATEGORY_MISSES = "categoryMisses";
+    public static final String BRAND_MISSES = "brandMisses";
+    public static final String USER_MISSES = "userMisses";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Key for remembered unknown emails; email lookups are case-insensitive in the database
+     */
+    public static String emailKey(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public boolean isKnownMissing(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache != null && key != null && cache.get(key) != null;
+    }
+
+    public void recordMissing(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Drop a remembered miss once the row exists.
+     * Evicted right away (inside the writer's transaction, so other replicas are told when it commits)
+     * and again locally after commit, in case a concurrent reader re-recorded the miss before the row was visible.
+     */
+    public void forget(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || key == null) {
+            return;
+        }
+        cache.evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive() && cache instanceof CaffeineCache caffeineCache) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // Native eviction: the publish above already covers other replicas
+                    caffeineCache.getNativeCache().invalidate(key);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.abhishek.ecommerce.config.cache.admin;
+
+import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
+import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Admin Caches", description = "Per-replica cache statistics and targeted evict / warm")
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    // ========================= STATS =========================
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get statistics of all caches on this replica", description = "Requires ADMIN role")
+    public ApiResponse<List<CacheStatsResponseDto>> getAllStats(
+            @RequestParam(defaultValue = "10") int hotKeys) {
+        return ApiResponseBuilder.success("Cache statistics fetched successfully",
+                cacheAdminService.getAllStats(hotKeys));
+    }
+
+    @GetMapping("/{name}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get statistics of one cache on this replica", description = "Requires ADMIN role")
+    public ApiResponse<CacheStatsResponseDto> getStats(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "10") int hotKeys) {
+        return ApiResponseBuilder.success("Cache statistics fetched successfully",
+                cacheAdminService.getStats(name, hotKeys));
+    }
+
+    // ========================= EVICT =========================
+    @PostMapping("/{name}/evict")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Evict one key on every replica", description = "Requires ADMIN role")
+    public ApiResponse<Map<String, Boolean>> evict(
+            @PathVariable String name,
+            @RequestParam String key) {
+        boolean present = cacheAdminService.evict(name, key);
+        return ApiResponseBuilder.success("Cache key evicted successfully", Map.of("presentLocally", present));
+    }
+
+    @PostMapping("/{name}/clear")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Clear a cache on every replica", description = "Requires ADMIN role")
+    public ApiResponse<Void> clear(@PathVariable String name) {
+        cacheAdminService.clear(name);
+        return ApiResponseBuilder.success("Cache cleared successfully", null);
+    }
+
+    // ========================= WARM =========================
+    @PostMapping("/{name}/warm")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Load entries into a cache on this replica", description = "Requires ADMIN role")
+    public ApiResponse<Map<String, Integer>> warm(
+            @PathVariable String name,
+            @RequestParam(required = false) List<String> keys) {
+        int warmed = cacheAdminService.warm(name, keys);
+        return ApiResponseBuilder.success("Cache warmed successfully", Map.of("requested", warmed));
+    }
+}
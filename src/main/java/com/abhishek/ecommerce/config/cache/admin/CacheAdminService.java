@@ -0,0 +1,200 @@
+package com.abhishek.ecommerce.config.cache.admin;
+
+import com.abhishek.ecommerce.config.appProperties.WarmupProperties;
+import com.abhishek.ecommerce.config.cache.CacheConfig;
+import com.abhishek.ecommerce.config.cache.CoalescingCaffeineCache;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
+import com.abhishek.ecommerce.product.cache.ProductJsonCache;
+import com.abhishek.ecommerce.product.service.BrandService;
+import com.abhishek.ecommerce.product.service.CategoryService;
+import com.abhishek.ecommerce.product.service.ProductService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Inspection and targeted control of the Spring caches on this replica
+ *
+ * Stats come straight from Caffeine (recordStats is on for every cache).
+ * Evict/clear go through the Spring cache, so they are also published to the other
+ * replicas via the invalidation log. Warm loads through the service proxies, exactly
+ * like a normal request would, so entries land with their usual keys.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+    private static final String ACTIVE_KEY = "active";
+
+    private static final Set<String> WARMABLE = Set.of(
+            "products", ProductJsonCache.CACHE_NAME, "productPages", "categories", "brands");
+
+    private final CacheManager cacheManager;
+    private final ProductService productService;
+    private final ProductJsonCache productJsonCache;
+    private final CategoryService categoryService;
+    private final BrandService brandService;
+    private final WarmupProperties warmupProperties;
+
+    public List<CacheStatsResponseDto> getAllStats(int hotKeyLimit) {
+        return CacheConfig.CACHE_NAMES.stream()
+                .map(name -> getStats(name, hotKeyLimit))
+                .toList();
+    }
+
+    public CacheStatsResponseDto getStats(String name, int hotKeyLimit) {
+        CaffeineCache cache = resolve(name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+
+        CacheStatsResponseDto dto = new CacheStatsResponseDto();
+        dto.setName(name);
+        dto.setSize(nativeCache.estimatedSize());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRatio(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setLoadCount(stats.loadCount());
+        dto.setLoadFailureCount(stats.loadFailureCount());
+        dto.setAverageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0);
+        if (cache instanceof CoalescingCaffeineCache coalescing) {
+            dto.setCoalescedWaiters(coalescing.getCoalescedWaiterCount());
+        }
+        dto.setHotKeys(hotKeys(nativeCache, hotKeyLimit));
+        dto.setWarmable(WARMABLE.contains(name));
+        dto.setEvictable(!CatalogVersions.CACHE_NAME.equals(name));
+        return dto;
+    }
+
+    /**
+     * Evict one key here and on the other replicas
+     * productPages is rejected: its keys embed catalog versions, and the other replicas only
+     * understand version bumps for it, so a single key would be evicted here alone. Clear it instead.
+     *
+     * @return whether the key was present on this replica
+     */
+    public boolean evict(String name, String key) {
+        CaffeineCache cache = resolve(name);
+        if (CatalogVersions.CACHE_NAME.equals(name)) {
+            throw new IllegalStateException("Cache " + name + " cannot be evicted by key; clear it instead");
+        }
+        Object resolved = resolveKey(cache, key);
+        boolean present = cache.evictIfPresent(resolved);
+        log.info("Admin evicted key {} from cache {} (present locally: {})", key, name, present);
+        return present;
+    }
+
+    public void clear(String name) {
+        resolve(name).clear();
+        log.info("Admin cleared cache {}", name);
+    }
+
+    /**
+     * Load entries through the cached services
+     * Id-keyed caches take product/category/brand ids; categories and brands without keys
+     * load the active list, productPages loads the first active page.
+     *
+     * @return number of entries requested
+     */
+    public int warm(String name, List<String> keys) {
+        resolve(name);
+        if (!WARMABLE.contains(name)) {
+            throw new IllegalStateException("Cache " + name + " cannot be warmed from the console");
+        }
+        List<String> requested = keys == null ? List.of() : keys;
+
+        switch (name) {
+            case "products" -> requireIds(name, requested).forEach(productService::getProductById);
+            case ProductJsonCache.CACHE_NAME -> requireIds(name, requested).forEach(productJsonCache::get);
+            case "categories" -> warmReference(requested, categoryService::getAllActiveCategories,
+                    categoryService::getCategoryById);
+            case "brands" -> warmReference(requested, brandService::getAllActiveBrands,
+                    brandService::getBrandById);
+            case "productPages" -> productService.getAllActiveProducts(PageRequest.of(0,
+                    warmupProperties.getFirstPageSize(), Sort.by(Sort.Direction.DESC, "createdAt")));
+            default -> throw new IllegalStateException("Cache " + name + " cannot be warmed from the console");
+        }
+
+        int count = Math.max(1, requested.size());
+        log.info("Admin warmed cache {} with {} entr{}", name, count, count == 1 ? "y" : "ies");
+        return count;
+    }
+
+    private void warmReference(List<String> keys, Runnable loadActive, Consumer<Long> loadById) {
+        if (keys.isEmpty()) {
+            loadActive.run();
+            return;
+        }
+        for (String key : keys) {
+            if (ACTIVE_KEY.equals(key)) {
+                loadActive.run();
+            } else {
+                loadById.accept(parseId(key));
+            }
+        }
+    }
+
+    private CaffeineCache resolve(String name) {
+        if (!CacheConfig.CACHE_NAMES.contains(name)
+                || !(cacheManager.getCache(name) instanceof CaffeineCache cache)) {
+            throw new CacheNotFoundException(name);
+        }
+        return cache;
+    }
+
+    /**
+     * Keys arrive as strings; match them against the live keys (Long ids, "active", page keys),
+     * otherwise fall back to a Long for numeric input so other replicas still evict it
+     */
+    private static Object resolveKey(CaffeineCache cache, String key) {
+        for (Object existing : cache.getNativeCache().asMap().keySet()) {
+            if (String.valueOf(existing).equals(key)) {
+                return existing;
+            }
+        }
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            return key;
+        }
+    }
+
+    private static List<String> hotKeys(com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // Frequency-ordered from W-TinyLFU's sketch (unordered until the cache is half full);
+        // only size/weight-bounded caches have an eviction policy
+        return nativeCache.policy().eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .map(Map::keySet)
+                .map(keys -> keys.stream().map(String::valueOf).toList())
+                .orElse(List.of());
+    }
+
+    private static List<Long> requireIds(String name, List<String> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("Cache " + name + " needs at least one id to warm");
+        }
+        return keys.stream().map(CacheAdminService::parseId).toList();
+    }
+
+    private static Long parseId(String key) {
+        try {
+            return Long.valueOf(key.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Expected a numeric id but got: " + key);
+        }
+    }
+}
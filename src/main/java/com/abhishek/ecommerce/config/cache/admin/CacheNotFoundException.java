@@ -0,0 +1,10 @@
+package com.abhishek.ecommerce.config.cache.admin;
+
+import com.abhishek.ecommerce.common.exception.BusinessException;
+
+public class CacheNotFoundException extends BusinessException {
+
+    public CacheNotFoundException(String name) {
+        super("Cache not found: " + name, "CACHE_NOT_FOUND");
+    }
+}
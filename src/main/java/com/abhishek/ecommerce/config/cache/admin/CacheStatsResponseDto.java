@@ -0,0 +1,44 @@
+package com.abhishek.ecommerce.config.cache.admin;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Point-in-time statistics of one cache on this replica
+ */
+@Getter
+@Setter
+public class CacheStatsResponseDto {
+
+    private String name;
+
+    // Approximate entry count (Caffeine estimatedSize)
+    private long size;
+
+    private long hitCount;
+    private long missCount;
+
+    // 0..1, 1.0 when the cache has not been read yet
+    private double hitRatio;
+
+    private long evictionCount;
+    private long loadCount;
+    private long loadFailureCount;
+
+    // Mean time spent loading a missing entry
+    private double averageLoadMillis;
+
+    // Callers that waited on another caller's load (sync=true)
+    private long coalescedWaiters;
+
+    // Most frequently used keys first, as strings
+    private List<String> hotKeys;
+
+    // Whether CacheAdminService#warm can load entries into this cache
+    private boolean warmable;
+
+    // Whether CacheAdminService#evict accepts single keys for this cache
+    private boolean evictable;
+}
@@ -0,0 +1,48 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * One row per cache eviction/clear, appended by the node that performed it.
+ * Other replicas poll this table by id (high-water mark) and apply the evictions locally.
+ * Rows are short-lived: purged after config.cache.invalidation.retention.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 100)
+    private String cacheName;
+
+    /**
+     * Encoded key (see {@link CacheKeyCodec}); null means clear the whole cache
+     */
+    @Column(name = "cache_key", length = 512)
+    private String cacheKey;
+
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,190 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+import com.abhishek.ecommerce.config.cache.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replays evictions published by other replicas.
+ *
+ * Each poll reads rows past the high-water mark in id order (batched), plus rows below
+ * the mark created within the lookback window, because an id can be allocated before a
+ * slower transaction commits. Rows already applied are remembered for the lookback window
+ * so they are not applied twice. Evictions go straight to the native Caffeine cache, so
+ * applying a remote invalidation never republishes it. RemoteInvalidationListeners see
+ * each batch first (Hibernate L2 regions the cached values are loaded from).
+ *
+ * Propagation lag (publish time on the origin node to apply time here) is recorded in
+ * cache.invalidation.lag; it includes clock skew between nodes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "config.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationPoller {
+
+    private final CacheInvalidationRepository repository;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final List<RemoteInvalidationHandler> handlers;
+    private final List<RemoteInvalidationListener> listeners;
+    private final CacheProperties.Invalidation settings;
+    private final Timer lag;
+    private final Counter applied;
+
+    private long highWaterMark = -1;
+    private final Map<Long, Instant> recentlyApplied = new LinkedHashMap<>();
+
+    public CacheInvalidationPoller(CacheInvalidationRepository repository,
+                                   CacheManager cacheManager,
+                                   CacheInvalidationPublisher publisher,
+                                   ObjectProvider<RemoteInvalidationHandler> handlers,
+                                   ObjectProvider<RemoteInvalidationListener> listeners,
+                                   CacheProperties cacheProperties,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+        this.publisher = publisher;
+        this.handlers = handlers.orderedStream().toList();
+        this.listeners = listeners.orderedStream().toList();
+        this.settings = cacheProperties.getInvalidation();
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("Time from an eviction on one replica to its application on this one")
+                .register(meterRegistry);
+        this.applied = Counter.builder("cache.invalidation.applied")
+                .description("Remote cache invalidations applied on this replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${config.cache.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        Instant now = Instant.now();
+        Instant since = now.minus(settings.getLookback());
+
+        if (highWaterMark < 0) {
+            // Local caches start empty, so rows that already exist are irrelevant to this node
+            highWaterMark = repository.findMaxId();
+            repository.findByIdLessThanEqualAndCreatedAtGreaterThanEqualOrderByIdAsc(highWaterMark, since)
+                    .forEach(row -> recentlyApplied.put(row.getId(), row.getCreatedAt()));
+            log.info("Cache invalidation poller started node={} highWaterMark={}", publisher.getNodeId(), highWaterMark);
+            return;
+        }
+        recentlyApplied.values().removeIf(createdAt -> createdAt.isBefore(since));
+
+        List<CacheInvalidation> rows = new ArrayList<>(
+                repository.findByIdLessThanEqualAndCreatedAtGreaterThanEqualOrderByIdAsc(highWaterMark, since));
+        rows.addAll(repository.findByIdGreaterThanOrderByIdAsc(highWaterMark, PageRequest.of(0, settings.getBatchSize())));
+
+        List<CacheInvalidation> remote = new ArrayList<>();
+        for (CacheInvalidation row : rows) {
+            highWaterMark = Math.max(highWaterMark, row.getId());
+            if (recentlyApplied.containsKey(row.getId())) {
+                continue;
+            }
+            recentlyApplied.put(row.getId(), row.getCreatedAt());
+            if (!publisher.getNodeId().equals(row.getOriginNode())) {
+                remote.add(row);
+            }
+        }
+        if (remote.isEmpty()) {
+            return;
+        }
+
+        // Before the Spring caches, so a miss right after their eviction cannot reload from a stale layer
+        for (RemoteInvalidationListener listener : listeners) {
+            try {
+                listener.beforeEviction(remote);
+            } catch (RuntimeException e) {
+                log.warn("Remote invalidation listener {} failed", listener.getClass().getSimpleName(), e);
+            }
+        }
+
+        Map<String, Set<Object>> keysByCache = new LinkedHashMap<>();
+        Set<String> cleared = new HashSet<>();
+        for (CacheInvalidation row : remote) {
+            try {
+                collect(row, keysByCache, cleared);
+            } catch (RuntimeException e) {
+                // The row is already marked applied: fall back to a full invalidation of its cache
+                // rather than skipping it, and never let one bad row cost the batch its evictions
+                log.warn("Could not apply cache invalidation id={} cache={} key={}, invalidating the whole cache",
+                        row.getId(), row.getCacheName(), row.getCacheKey(), e);
+                invalidateAll(row.getCacheName(), cleared);
+            }
+            lag.record(Duration.between(row.getCreatedAt(), now).abs());
+            applied.increment();
+        }
+
+        cleared.forEach(this::clearLocally);
+        keysByCache.forEach((cacheName, keys) -> {
+            if (!cleared.contains(cacheName)) {
+                evictLocally(cacheName, keys);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${config.cache.invalidation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int deleted = repository.deleteByCreatedAtBefore(Instant.now().minus(settings.getRetention()));
+        if (deleted > 0) {
+            log.debug("Purged {} expired cache invalidation rows", deleted);
+        }
+    }
+
+    private void collect(CacheInvalidation row, Map<String, Set<Object>> keysByCache, Set<String> cleared) {
+        for (RemoteInvalidationHandler handler : handlers) {
+            if (handler.supports(row.getCacheName())) {
+                handler.onRemoteInvalidation(row.getCacheName(), row.getCacheKey());
+                return;
+            }
+        }
+        Object key = CacheKeyCodec.decode(row.getCacheKey());
+        if (key == null) {
+            cleared.add(row.getCacheName());
+        } else {
+            keysByCache.computeIfAbsent(row.getCacheName(), name -> new HashSet<>()).add(key);
+        }
+    }
+
+    private void invalidateAll(String cacheName, Set<String> cleared) {
+        for (RemoteInvalidationHandler handler : handlers) {
+            if (handler.supports(cacheName)) {
+                handler.onRemoteInvalidation(cacheName, null);
+                return;
+            }
+        }
+        cleared.add(cacheName);
+    }
+
+    private void evictLocally(String cacheName, Set<Object> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().invalidateAll(keys);
+        }
+    }
+
+    private void clearLocally(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Appends local evictions to cache_invalidations so the other replicas can replay them.
+ * The insert joins the caller's transaction when there is one, so the invalidation
+ * becomes visible exactly when the data change commits.
+ * Do not publish from afterCommit callbacks: the insert would join the finished transaction and be lost.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "config.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationPublisher {
+
+    private final CacheInvalidationRepository repository;
+    private final Counter published;
+
+    // Identifies this JVM so the poller can skip its own rows
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(CacheInvalidationRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.published = Counter.builder("cache.invalidation.published")
+                .description("Cache invalidations written for other replicas")
+                .register(meterRegistry);
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        String encoded = CacheKeyCodec.encode(key);
+        if (encoded == null) {
+            log.debug("Unsupported cache key type {} for cache={}, publishing clear", key == null ? null : key.getClass(), cacheName);
+        }
+        publish(cacheName, encoded);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, null);
+    }
+
+    /**
+     * Publish a raw, already encoded key (used by {@link RemoteInvalidationHandler} caches)
+     */
+    public void publish(String cacheName, String encodedKey) {
+        CacheInvalidation invalidation = new CacheInvalidation();
+        invalidation.setCacheName(cacheName);
+        invalidation.setCacheKey(encodedKey);
+        invalidation.setOriginNode(nodeId);
+        invalidation.setCreatedAt(Instant.now());
+        repository.save(invalidation);
+        published.increment();
+    }
+}
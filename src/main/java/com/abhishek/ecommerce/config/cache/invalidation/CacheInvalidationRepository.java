@@ -0,0 +1,27 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    @Query("SELECT COALESCE(MAX(i.id), 0) FROM CacheInvalidation i")
+    long findMaxId();
+
+    // New rows past the high-water mark, oldest first
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long highWaterMark, Pageable pageable);
+
+    // Rows below the mark that committed late (ids are allocated before commit)
+    List<CacheInvalidation> findByIdLessThanEqualAndCreatedAtGreaterThanEqualOrderByIdAsc(Long highWaterMark, Instant since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheInvalidation i WHERE i.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(Instant cutoff);
+}
@@ -0,0 +1,38 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+/**
+ * String encoding for cache keys stored in cache_invalidations.
+ * Only key types used by the application caches are supported (Long, Integer, String);
+ * anything else encodes to null and is published as a full clear of that cache.
+ */
+public final class CacheKeyCodec {
+
+    private CacheKeyCodec() {
+    }
+
+    public static String encode(Object key) {
+        if (key instanceof Long value) {
+            return "L:" + value;
+        }
+        if (key instanceof Integer value) {
+            return "I:" + value;
+        }
+        if (key instanceof String value) {
+            return "S:" + value;
+        }
+        return null;
+    }
+
+    public static Object decode(String encoded) {
+        if (encoded == null || encoded.length() < 2 || encoded.charAt(1) != ':') {
+            return null;
+        }
+        String value = encoded.substring(2);
+        return switch (encoded.charAt(0)) {
+            case 'L' -> Long.valueOf(value);
+            case 'I' -> Integer.valueOf(value);
+            case 'S' -> value;
+            default -> null;
+        };
+    }
+}
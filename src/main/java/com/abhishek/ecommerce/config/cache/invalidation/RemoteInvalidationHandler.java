@@ -0,0 +1,15 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+/**
+ * Takes over remote invalidations for a cache whose entries are not evicted by key,
+ * e.g. version-keyed caches where the remote node has to bump its own counters.
+ */
+public interface RemoteInvalidationHandler {
+
+    boolean supports(String cacheName);
+
+    /**
+     * @param cacheKey the published key, or null to invalidate everything the handler owns
+     */
+    void onRemoteInvalidation(String cacheName, String cacheKey);
+}
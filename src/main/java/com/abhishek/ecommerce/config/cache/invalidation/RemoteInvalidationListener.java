@@ -0,0 +1,15 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+import java.util.List;
+
+/**
+ * Sees each batch of remote invalidations before the poller evicts the Spring caches,
+ * e.g. to drop lower cache layers those caches are reloaded from.
+ */
+public interface RemoteInvalidationListener {
+
+    /**
+     * @param rows rows from other replicas applied in this poll, in id order
+     */
+    void beforeEviction(List<CacheInvalidation> rows);
+}
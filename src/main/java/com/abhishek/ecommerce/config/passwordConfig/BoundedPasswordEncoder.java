@@ -0,0 +1,127 @@
+package com.abhishek.ecommerce.config.passwordConfig;
+
+import com.abhishek.ecommerce.auth.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt encode/matches on a dedicated, bounded pool
+ *
+ * The calling request thread still waits for the result, but at most threads + queueCapacity
+ * requests can be hashing or waiting at once. Beyond that the call fails immediately with
+ * {@link PasswordHashingBusyException} (503 + Retry-After), so a login burst cannot pin every
+ * Tomcat worker on CPU-bound hashing and starve catalog reads.
+ *
+ * Metrics: security.password.queue.wait, security.password.hash (tag op=encode|matches),
+ * security.password.rejected and security.password.queue.size.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int retryAfterSeconds;
+
+    private final Timer encodeWait;
+    private final Timer matchesWait;
+    private final Timer encodeTime;
+    private final Timer matchesTime;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, int retryAfterSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeWait = timer(meterRegistry, "security.password.queue.wait", "encode");
+        this.matchesWait = timer(meterRegistry, "security.password.queue.wait", "matches");
+        this.encodeTime = timer(meterRegistry, "security.password.hash", "encode");
+        this.matchesTime = timer(meterRegistry, "security.password.hash", "matches");
+        this.rejected = Counter.builder("security.password.rejected")
+                .description("Password hashing requests refused because the pool and queue were full")
+                .register(meterRegistry);
+        Gauge.builder("security.password.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeWait, encodeTime);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesWait, matchesTime);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Parses the hash prefix only, no hashing
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> hashing, Timer waitTimer, Timer hashTimer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing pool saturated (active={}, queued={}), rejecting request",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String op) {
+        return Timer.builder(name)
+                .tag("op", op)
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,7 @@
 package com.abhishek.ecommerce.config.passwordConfig;
 
+import com.abhishek.ecommerce.config.appProperties.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,9 +10,17 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class PasswordConfig {
 
+    /**
+     * BCrypt on its own bounded pool instead of Tomcat request threads (see BoundedPasswordEncoder)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(properties.getStrength()),
+                properties.getThreads(),
+                properties.getQueueCapacity(),
+                properties.getRetryAfterSeconds(),
+                meterRegistry
+        );
     }
 }
-
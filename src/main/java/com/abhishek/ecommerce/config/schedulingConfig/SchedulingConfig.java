@@ -0,0 +1,16 @@
+package com.abhishek.ecommerce.config.schedulingConfig;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling for background maintenance jobs
+ * (cache invalidation polling, expired-row purges)
+ *
+ * Jobs run on Boot's scheduler pool, sized by spring.task.scheduling.pool.size in application.yml:
+ * keep it at least the number of @Scheduled methods so the invalidation poll never waits behind a purge.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.abhishek.ecommerce.inventory.controller;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
 import com.abhishek.ecommerce.common.apiResponse.PageResponseDto;
+import com.abhishek.ecommerce.common.utils.HttpCacheUtils;
 import com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto;
 import com.abhishek.ecommerce.inventory.dto.response.InventoryResponseDto;
 import com.abhishek.ecommerce.inventory.service.InventoryService;
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -73,10 +75,13 @@ public class InventoryController {
         description = "Public endpoint - accessible to all users"
     )
     @GetMapping("/products/{productId}/stock")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<InventoryResponseDto> getStock(@PathVariable Long productId) {
+    public ResponseEntity<ApiResponse<InventoryResponseDto>> getStock(@PathVariable Long productId) {
         InventoryResponseDto response = inventoryService.getAvailableStock(productId);
-        return ApiResponseBuilder.success("Stock fetched successfully", response);
+        // Stock moves constantly: always revalidate, but a matching ETag still saves the body
+        String etag = HttpCacheUtils.strongEtag(response.getId(), response.getUpdatedAt(),
+                response.getQuantity(), response.getProductName(), response.getSku());
+        return HttpCacheUtils.ok(ApiResponseBuilder.success("Stock fetched successfully", response),
+                etag, null, CacheControl.noCache());
     }
 
     // ========================= SELLER ENDPOINTS =========================
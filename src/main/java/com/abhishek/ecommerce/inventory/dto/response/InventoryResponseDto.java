@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @Schema(description = "Product inventory information")
@@ -30,6 +32,9 @@ public class InventoryResponseDto {
     @Schema(description = "Available quantity in stock", example = "50")
     private Integer quantity;
 
+    @Schema(description = "Last stock change")
+    private LocalDateTime updatedAt;
+
     public void setId(Long id) {
         this.id = id;
     }
@@ -2,10 +2,32 @@ package com.abhishek.ecommerce.inventory.exception;
 
 import com.abhishek.ecommerce.common.exception.BusinessException;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class InsufficientStockException extends BusinessException {
 
+    private final List<Shortage> shortages;
+
     public InsufficientStockException(Long productId, int requested, int available) {
         super("Insufficient stock for product " + productId + ": requested " + requested + ", available " + available, "INSUFFICIENT_STOCK");
+        this.shortages = List.of(new Shortage(productId, requested, available));
+    }
+
+    /**
+     * Every short line of a multi-item reservation, in product-id order
+     */
+    public InsufficientStockException(List<Shortage> shortages) {
+        super("Insufficient stock for " + shortages.stream()
+                .map(s -> "product " + s.productId() + " (requested " + s.requested() + ", available " + s.available() + ")")
+                .collect(Collectors.joining(", ")), "INSUFFICIENT_STOCK");
+        this.shortages = List.copyOf(shortages);
     }
-}
 
+    public List<Shortage> getShortages() {
+        return shortages;
+    }
+
+    public record Shortage(Long productId, int requested, int available) {
+    }
+}
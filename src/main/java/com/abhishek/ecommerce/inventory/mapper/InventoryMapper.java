@@ -26,6 +26,7 @@ public class InventoryMapper {
         }
         
         dto.setQuantity(inventory.getQuantity());
+        dto.setUpdatedAt(inventory.getUpdatedAt() != null ? inventory.getUpdatedAt() : inventory.getCreatedAt());
 
         return dto;
     }
@@ -4,21 +4,49 @@ import com.abhishek.ecommerce.inventory.entity.Inventory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Inventory repository
  */
-public interface InventoryRepository extends JpaRepository<Inventory, Long> {
+public interface InventoryRepository extends JpaRepository<Inventory, Long>, InventoryRepositoryCustom {
 
     Optional<Inventory> findByProductId(Long productId);
 
+    @Query("SELECT i.quantity FROM Inventory i WHERE i.product.id = :productId")
+    Optional<Integer> findQuantityByProductId(@Param("productId") Long productId);
+
+    @Query("SELECT i.product.id AS productId, i.quantity AS quantity FROM Inventory i WHERE i.product.id IN :productIds")
+    List<StockLevel> findStockLevels(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Check and decrement in one statement; 0 rows means missing inventory or not enough stock.
+     * Bumps the version so entity-based writers (increaseStock) still detect the change, and sets
+     * updated_at because bulk updates bypass auditing.
+     */
+    @Modifying
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, i.version = i.version + 1, i.updatedAt = :now " +
+            "WHERE i.product.id = :productId AND i.quantity >= :quantity")
+    int decrementIfAvailable(@Param("productId") Long productId,
+                             @Param("quantity") int quantity,
+                             @Param("now") LocalDateTime now);
+
     @Query("SELECT i FROM Inventory i WHERE i.product.seller.id = :sellerId")
     Page<Inventory> findBySellerId(@Param("sellerId") Long sellerId, Pageable pageable);
 
     @Query("SELECT i FROM Inventory i WHERE i.product.seller.id = :sellerId AND LOWER(i.product.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     Page<Inventory> findBySellerIdAndProductNameContaining(@Param("sellerId") Long sellerId, @Param("name") String name, Pageable pageable);
+
+    interface StockLevel {
+        Long getProductId();
+
+        Integer getQuantity();
+    }
 }
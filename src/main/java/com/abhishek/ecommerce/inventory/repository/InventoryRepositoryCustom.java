@@ -0,0 +1,19 @@
+package com.abhishek.ecommerce.inventory.repository;
+
+import java.time.LocalDateTime;
+import java.util.SortedMap;
+
+/**
+ * JDBC-level inventory writes that Spring Data queries cannot express
+ */
+public interface InventoryRepositoryCustom {
+
+    /**
+     * The conditional decrement of {@link InventoryRepository#decrementIfAvailable} for every line,
+     * sent as one JDBC batch in ascending product-id order (so concurrent reservations lock rows
+     * in the same order and cannot deadlock)
+     *
+     * @return update count per line in the map's order; 0 means missing inventory or not enough stock
+     */
+    int[] decrementEachIfAvailable(SortedMap<Long, Integer> quantitiesByProductId, LocalDateTime now);
+}
@@ -0,0 +1,44 @@
+package com.abhishek.ecommerce.inventory.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Like the JPQL bulk update, this bypasses the persistence context: Inventory instances already
+ * loaded in the same session are not refreshed.
+ *
+ * On MySQL add rewriteBatchedStatements=true to the JDBC URL so the batch is one round trip.
+ */
+public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
+
+    private static final String DECREMENT_IF_AVAILABLE =
+            "UPDATE inventory SET quantity = quantity - ?, version = version + 1, updated_at = ? " +
+            "WHERE product_id = ? AND quantity >= ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int[] decrementEachIfAvailable(SortedMap<Long, Integer> quantitiesByProductId, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DECREMENT_IF_AVAILABLE)) {
+                for (Map.Entry<Long, Integer> line : quantitiesByProductId.entrySet()) {
+                    statement.setInt(1, line.getValue());
+                    statement.setTimestamp(2, updatedAt);
+                    statement.setLong(3, line.getKey());
+                    statement.setInt(4, line.getValue());
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+    }
+}
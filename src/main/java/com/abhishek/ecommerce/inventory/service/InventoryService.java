@@ -5,6 +5,8 @@ import com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto;
 import com.abhishek.ecommerce.inventory.dto.response.InventoryResponseDto;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
+
 public interface InventoryService {
 
     /**
@@ -16,6 +18,19 @@ public interface InventoryService {
 
     InventoryResponseDto reduceStock(Long productId, UpdateStockRequestDto requestDto);
 
+    /**
+     * Decrement stock with a single conditional UPDATE instead of read-check-save retries;
+     * throws InsufficientStockException / InventoryNotFoundException when no row was updated
+     */
+    void decrementStock(Long productId, int quantity);
+
+    /**
+     * Reserve stock for several products at once (product id -> quantity), all or nothing:
+     * one batched conditional decrement in product-id order; if any line is short, throws
+     * InsufficientStockException listing every short line and the transaction rolls back
+     */
+    void reserve(Map<Long, Integer> quantitiesByProductId);
+
     InventoryResponseDto getAvailableStock(Long productId);
 
     PageResponseDto<InventoryResponseDto> getInventoryBySeller(Long sellerId, Pageable pageable);
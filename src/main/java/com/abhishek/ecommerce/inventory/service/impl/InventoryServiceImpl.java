@@ -20,6 +20,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -128,6 +134,68 @@ public class InventoryServiceImpl implements InventoryService {
         throw new RuntimeException("Unexpected error in reduceStock");
     }
 
+    // ========================= DECREMENT STOCK (SINGLE STATEMENT) =========================
+    @Override
+    public void decrementStock(Long productId, int quantity) {
+        log.debug("decrementStock productId={} qty={}", productId, quantity);
+        // A negative quantity would turn the UPDATE into an increase
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+        }
+
+        if (inventoryRepository.decrementIfAvailable(productId, quantity, LocalDateTime.now()) == 1) {
+            return;
+        }
+
+        // Failure path only: read the row to say why
+        Integer available = inventoryRepository.findQuantityByProductId(productId)
+                .orElseThrow(() -> new InventoryNotFoundException(productId));
+        log.warn("decrementStock insufficient stock productId={} available={} requested={}",
+                productId, available, quantity);
+        throw new InsufficientStockException(productId, quantity, available);
+    }
+
+    // ========================= RESERVE (MULTI-ITEM) =========================
+    @Override
+    public void reserve(Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+        // Ascending product id: concurrent reservations take row locks in the same order
+        SortedMap<Long, Integer> lines = new TreeMap<>(quantitiesByProductId);
+        lines.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for product " + productId + ": " + quantity);
+            }
+        });
+        log.debug("reserve lines={}", lines);
+
+        int[] updated = inventoryRepository.decrementEachIfAvailable(lines, LocalDateTime.now());
+
+        List<Long> shortIds = new ArrayList<>();
+        int index = 0;
+        for (Long productId : lines.keySet()) {
+            if (updated[index++] == 0) {
+                shortIds.add(productId);
+            }
+        }
+        if (shortIds.isEmpty()) {
+            return;
+        }
+
+        // Failure path only; short rows were not touched, so these are the real available counts.
+        // The lines that did go through are undone by the transaction rollback.
+        Map<Long, Integer> available = inventoryRepository.findStockLevels(shortIds).stream()
+                .collect(Collectors.toMap(InventoryRepository.StockLevel::getProductId,
+                        level -> level.getQuantity() == null ? 0 : level.getQuantity()));
+        List<InsufficientStockException.Shortage> shortages = shortIds.stream()
+                .map(productId -> new InsufficientStockException.Shortage(
+                        productId, lines.get(productId), available.getOrDefault(productId, 0)))
+                .toList();
+        log.warn("reserve insufficient stock {}", shortages);
+        throw new InsufficientStockException(shortages);
+    }
+
     // ========================= GET STOCK =========================
     @Override
     @Transactional(readOnly = true)
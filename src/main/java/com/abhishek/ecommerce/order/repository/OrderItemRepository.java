@@ -1,11 +1,19 @@
 package com.abhishek.ecommerce.order.repository;
 
 import com.abhishek.ecommerce.order.entity.OrderItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 /**
  * Repository for OrderItem entity
  */
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    // Product ids ordered by units sold, most sold first
+    @Query("SELECT oi.product.id FROM OrderItem oi GROUP BY oi.product.id ORDER BY SUM(oi.quantity) DESC")
+    List<Long> findTopSellingProductIds(Pageable pageable);
 }
 
@@ -23,6 +23,7 @@ import com.abhishek.ecommerce.shared.enums.Role;
 import com.abhishek.ecommerce.user.exception.UserNotFoundException;
 import com.abhishek.ecommerce.user.repository.UserRepository;
 import com.abhishek.ecommerce.common.baseEntity.Money;
+import com.abhishek.ecommerce.common.utils.CurrentUser;
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
 import com.abhishek.ecommerce.notification.NotificationService;
 
@@ -35,7 +36,9 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -80,14 +83,10 @@ public class OrderServiceImpl implements OrderService {
 
         BigDecimal total = BigDecimal.ZERO;
 
-        // 4️⃣ Convert cart items → order items + REDUCE INVENTORY
+        // 4️⃣ Convert cart items → order items, collecting the stock to reserve
+        Map<Long, Integer> stockToReserve = new HashMap<>();
         for (CartItem cartItem : cart.getItems()) {
-
-            // 🔥 THIS WAS MISSING
-            com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto stockRequest = 
-                new com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto();
-            stockRequest.setQuantity(cartItem.getQuantity());
-            inventoryService.reduceStock(cartItem.getProduct().getId(), stockRequest);
+            stockToReserve.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
 
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order);
@@ -103,6 +102,9 @@ public class OrderServiceImpl implements OrderService {
             );
         }
 
+        // All lines in one batched, all-or-nothing reservation; reports every short item
+        inventoryService.reserve(stockToReserve);
+
         // 5️⃣ Set total amount
         order.setTotalAmount(new Money(total, "INR"));
 
@@ -325,12 +327,10 @@ public class OrderServiceImpl implements OrderService {
 
         BigDecimal total = BigDecimal.ZERO;
 
-        // 4️⃣ Convert cart items → order items + REDUCE INVENTORY
+        // 4️⃣ Convert cart items → order items, collecting the stock to reserve
+        Map<Long, Integer> stockToReserve = new HashMap<>();
         for (CartItem cartItem : cart.getItems()) {
-            com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto stockRequest = 
-                new com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto();
-            stockRequest.setQuantity(cartItem.getQuantity());
-            inventoryService.reduceStock(cartItem.getProduct().getId(), stockRequest);
+            stockToReserve.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
 
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order);
@@ -346,6 +346,9 @@ public class OrderServiceImpl implements OrderService {
             );
         }
 
+        // All lines in one batched, all-or-nothing reservation; reports every short item
+        inventoryService.reserve(stockToReserve);
+
         // 5️⃣ Set total amount
         order.setTotalAmount(new Money(total, "INR"));
 
@@ -436,7 +439,8 @@ public class OrderServiceImpl implements OrderService {
 
         BigDecimal total = BigDecimal.ZERO;
 
-        // 4️⃣ Convert selected cart items → order items + REDUCE INVENTORY
+        // 4️⃣ Convert selected cart items → order items, collecting the stock to reserve
+        Map<Long, Integer> stockToReserve = new HashMap<>();
         List<CartItem> itemsToRemove = new java.util.ArrayList<>();
         for (CartItem cartItem : cart.getItems()) {
             // Only include this item if it's in the selected product IDs
@@ -446,10 +450,7 @@ public class OrderServiceImpl implements OrderService {
                 continue;
             }
 
-            com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto stockRequest = 
-                new com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto();
-            stockRequest.setQuantity(cartItem.getQuantity());
-            inventoryService.reduceStock(cartItem.getProduct().getId(), stockRequest);
+            stockToReserve.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
 
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order);
@@ -473,6 +474,9 @@ public class OrderServiceImpl implements OrderService {
             throw new RuntimeException("No valid products found for the selected items");
         }
 
+        // All lines in one batched, all-or-nothing reservation; reports every short item
+        inventoryService.reserve(stockToReserve);
+
         // 5️⃣ Set total amount
         order.setTotalAmount(new Money(total, "INR"));
 
@@ -568,23 +572,20 @@ public class OrderServiceImpl implements OrderService {
         Order order = getOrderOrThrow(orderId);
         
         // Check ownership: Admin can see all orders, sellers can see orders with their items, users can see their own
-        String currentUsername = securityUtils.getCurrentUsername();
-        if (currentUsername == null) {
+        CurrentUser currentUser = securityUtils.getCurrentUser();
+        if (currentUser == null) {
             throw new AccessDeniedException("User not authenticated");
         }
         
-        User currentUser = userRepository.findByEmail(currentUsername)
-                .orElseThrow(() -> new IllegalStateException("Current user not found"));
-        
-        Long currentUserId = securityUtils.getCurrentUserId();
+        Long currentUserId = currentUser.getId();
         
         // Admin can access any order
-        if (currentUser.getRoles().contains(Role.ROLE_ADMIN)) {
+        if (currentUser.isAdmin()) {
             return orderMapper.toDto(order);
         }
         
         // Seller can access orders that contain their products
-        if (currentUser.getRoles().contains(Role.ROLE_SELLER)) {
+        if (currentUser.hasRole(Role.ROLE_SELLER)) {
             // Check if this order contains any items from this seller's products
             if (order.getItems() != null && !order.getItems().isEmpty()) {
                 boolean sellerHasItems = order.getItems().stream()
@@ -15,10 +15,8 @@ import com.abhishek.ecommerce.payment.gateway.razorpay.util.RazorpaySignatureVer
 import com.abhishek.ecommerce.payment.repository.PaymentRepository;
 import com.abhishek.ecommerce.shared.enums.OrderStatus;
 import com.abhishek.ecommerce.shared.enums.PaymentStatus;
-import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.common.utils.CurrentUser;
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
-import com.abhishek.ecommerce.user.entity.User;
-import com.abhishek.ecommerce.user.repository.UserRepository;
 import com.razorpay.RazorpayClient;
 import com.razorpay.RazorpayException;
 import lombok.RequiredArgsConstructor;
@@ -39,7 +37,6 @@ public class RazorpayPaymentService {
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final SecurityUtils securityUtils;
-    private final UserRepository userRepository;
 
     @Transactional(readOnly = true)
     public boolean isEnabled() {
@@ -230,15 +227,12 @@ public class RazorpayPaymentService {
     }
 
     private void validateOrderAccess(Order order) {
-        String currentUsername = securityUtils.getCurrentUsername();
-        if (currentUsername == null) throw new AccessDeniedException("User not authenticated");
+        CurrentUser currentUser = securityUtils.getCurrentUser();
+        if (currentUser == null) throw new AccessDeniedException("User not authenticated");
 
-        User currentUser = userRepository.findByEmail(currentUsername)
-                .orElseThrow(() -> new IllegalStateException("Current user not found"));
+        if (currentUser.isAdmin()) return;
 
-        if (currentUser.getRoles().contains(Role.ROLE_ADMIN)) return;
-
-        Long currentUserId = securityUtils.getCurrentUserId();
+        Long currentUserId = currentUser.getId();
         if (order.getUser() == null || !order.getUser().getId().equals(currentUserId)) {
             throw new AccessDeniedException("You do not have permission to pay for this order");
         }
@@ -12,10 +12,8 @@ import com.abhishek.ecommerce.payment.exception.PaymentNotFoundException;
 import com.abhishek.ecommerce.payment.mapper.PaymentMapper;
 import com.abhishek.ecommerce.payment.repository.PaymentRepository;
 import com.abhishek.ecommerce.payment.service.PaymentService;
+import com.abhishek.ecommerce.common.utils.CurrentUser;
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
-import com.abhishek.ecommerce.shared.enums.Role;
-import com.abhishek.ecommerce.user.entity.User;
-import com.abhishek.ecommerce.user.repository.UserRepository;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +30,6 @@ public class PaymentServiceImpl implements PaymentService {
     private final OrderRepository orderRepository;
     private final PaymentMapper paymentMapper;
     private final SecurityUtils securityUtils;
-    private final UserRepository userRepository;
 
     // ========================= CREATE =========================
     @Override
@@ -43,17 +40,14 @@ public class PaymentServiceImpl implements PaymentService {
                 .orElseThrow(() -> new OrderNotFoundException(requestDto.getOrderId()));
 
         // Check ownership: User can only create payment for their own order, or admin
-        String currentUsername = securityUtils.getCurrentUsername();
-        if (currentUsername == null) {
+        CurrentUser currentUser = securityUtils.getCurrentUser();
+        if (currentUser == null) {
             throw new AccessDeniedException("User not authenticated");
         }
 
-        User currentUser = userRepository.findByEmail(currentUsername)
-                .orElseThrow(() -> new IllegalStateException("Current user not found"));
-
         // Admin can create payment for any order, regular users only for their own
-        if (!currentUser.getRoles().contains(Role.ROLE_ADMIN)) {
-            Long currentUserId = securityUtils.getCurrentUserId();
+        if (!currentUser.isAdmin()) {
+            Long currentUserId = currentUser.getId();
             if (order.getUser() == null || !order.getUser().getId().equals(currentUserId)) {
                 log.warn("Access denied: User {} attempted to create payment for order {} owned by user {}",
                         currentUserId, requestDto.getOrderId(), order.getUser() != null ? order.getUser().getId() : "null");
@@ -113,16 +107,13 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     private void validatePaymentAccess(Payment payment) {
-        String currentUsername = securityUtils.getCurrentUsername();
-        if (currentUsername == null) {
+        CurrentUser currentUser = securityUtils.getCurrentUser();
+        if (currentUser == null) {
             throw new AccessDeniedException("User not authenticated");
         }
 
-        User currentUser = userRepository.findByEmail(currentUsername)
-                .orElseThrow(() -> new IllegalStateException("Current user not found"));
-
         // Admin can access any payment
-        if (currentUser.getRoles().contains(Role.ROLE_ADMIN)) {
+        if (currentUser.isAdmin()) {
             return;
         }
 
@@ -131,7 +122,7 @@ public class PaymentServiceImpl implements PaymentService {
             throw new AccessDeniedException("Payment is not associated with a valid order");
         }
 
-        Long currentUserId = securityUtils.getCurrentUserId();
+        Long currentUserId = currentUser.getId();
         if (!payment.getOrder().getUser().getId().equals(currentUserId)) {
             log.warn("Access denied: User {} attempted to access payment {} for order {} owned by user {}",
                     currentUserId, payment.getId(), payment.getOrder().getId(),
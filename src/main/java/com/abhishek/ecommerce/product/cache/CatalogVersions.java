@@ -0,0 +1,215 @@
+package com.abhishek.ecommerce.product.cache;
+
+import com.abhishek.ecommerce.config.cache.invalidation.CacheInvalidationPublisher;
+import com.abhishek.ecommerce.config.cache.invalidation.RemoteInvalidationHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters for the "productPages" cache.
+ *
+ * Every cached page key embeds the version of the scope it was read from
+ * (a category, a brand, or the whole catalog). A write bumps only the versions it
+ * touches, so listings of unrelated categories/brands stay cached while stale keys
+ * are never read again and age out through the cache's TTL/size bound.
+ *
+ * Category and brand keys also embed the reference version: any listing can show any
+ * category or brand name (a brand page lists products of many categories), so renaming
+ * or (de)activating one bumps it and drops every scoped listing. Product writes leave it alone.
+ *
+ * Key builders are called from @Cacheable SpEL as {@code @catalogVersions.xxxKey(...)}.
+ *
+ * Bumps are published to the other replicas as "productPages" invalidations whose key
+ * lists the scopes to bump (e.g. {@code global,category:3,brand:7}).
+ */
+@Component("catalogVersions")
+public class CatalogVersions implements RemoteInvalidationHandler {
+
+    public static final String CACHE_NAME = "productPages";
+
+    private static final String REFERENCE = "reference";
+
+    // Part of every key; bumped when the whole cache has to go (remote clear)
+    private final AtomicLong epoch = new AtomicLong();
+    // Covers listings that can contain any product: all-active, price range, name search
+    private final AtomicLong global = new AtomicLong();
+    // Part of category/brand keys; bumped when a category or brand name/status changes
+    private final AtomicLong reference = new AtomicLong();
+    private final ConcurrentMap<Long, AtomicLong> categories = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, AtomicLong> brands = new ConcurrentHashMap<>();
+    private final ObjectProvider<CacheInvalidationPublisher> invalidationPublisher;
+
+    public CatalogVersions(ObjectProvider<CacheInvalidationPublisher> invalidationPublisher) {
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    // ========================= KEYS =========================
+    public String activeKey(Pageable pageable) {
+        return "active|g" + global.get() + "|" + pageKey(pageable);
+    }
+
+    public String categoryKey(Long categoryId, Pageable pageable) {
+        return "category:" + categoryId + "|v" + version(categories, categoryId)
+                + "|r" + reference.get() + "|" + pageKey(pageable);
+    }
+
+    public String brandKey(Long brandId, Pageable pageable) {
+        return "brand:" + brandId + "|v" + version(brands, brandId)
+                + "|r" + reference.get() + "|" + pageKey(pageable);
+    }
+
+    public String categoryAndBrandKey(Long categoryId, Long brandId, Pageable pageable) {
+        return "category:" + categoryId + "|v" + version(categories, categoryId)
+                + "|brand:" + brandId + "|v" + version(brands, brandId)
+                + "|r" + reference.get() + "|" + pageKey(pageable);
+    }
+
+    public String priceRangeKey(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        return "price:" + plain(minPrice) + "-" + plain(maxPrice) + "|g" + global.get() + "|" + pageKey(pageable);
+    }
+
+    public String activeSearchKey(String name, Pageable pageable) {
+        String term = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        return "search:" + term + "|g" + global.get() + "|" + pageKey(pageable);
+    }
+
+    // ========================= INVALIDATION =========================
+    /**
+     * A product in the given category/brand was created, changed or changed status.
+     * Bumped after commit so a concurrent reader cannot re-cache pre-commit data under the new version.
+     */
+    public void productChanged(Long categoryId, Long brandId) {
+        publish(scope(categoryId, brandId));
+        afterCommit(() -> {
+            global.incrementAndGet();
+            bump(categories, categoryId);
+            bump(brands, brandId);
+        });
+    }
+
+    /**
+     * Category name/status changed: its own listings, the catalog-wide ones and every brand
+     * listing can embed it
+     */
+    public void categoryChanged(Long categoryId) {
+        publish(REFERENCE + "," + scope(categoryId, null));
+        afterCommit(() -> {
+            reference.incrementAndGet();
+            global.incrementAndGet();
+            bump(categories, categoryId);
+        });
+    }
+
+    /**
+     * Brand name/status changed: its own listings, the catalog-wide ones and every category
+     * listing can embed it
+     */
+    public void brandChanged(Long brandId) {
+        publish(REFERENCE + "," + scope(null, brandId));
+        afterCommit(() -> {
+            reference.incrementAndGet();
+            global.incrementAndGet();
+            bump(brands, brandId);
+        });
+    }
+
+    // ========================= REMOTE =========================
+    @Override
+    public boolean supports(String cacheName) {
+        return CACHE_NAME.equals(cacheName);
+    }
+
+    /**
+     * Another replica committed a catalog write: its row is only visible after commit, so bump right away
+     */
+    @Override
+    public void onRemoteInvalidation(String cacheName, String cacheKey) {
+        if (cacheKey == null) {
+            epoch.incrementAndGet();
+            return;
+        }
+        for (String token : cacheKey.split(",")) {
+            if ("global".equals(token)) {
+                global.incrementAndGet();
+            } else if (REFERENCE.equals(token)) {
+                reference.incrementAndGet();
+            } else if (token.startsWith("category:")) {
+                bump(categories, Long.valueOf(token.substring("category:".length())));
+            } else if (token.startsWith("brand:")) {
+                bump(brands, Long.valueOf(token.substring("brand:".length())));
+            }
+        }
+    }
+
+    /**
+     * Whether a published productPages key drops category/brand data (the null key clears everything)
+     */
+    public static boolean touchesReferenceData(String cacheKey) {
+        return cacheKey == null || Arrays.asList(cacheKey.split(",")).contains(REFERENCE);
+    }
+
+    // ========================= HELPERS =========================
+    private static long version(ConcurrentMap<Long, AtomicLong> versions, Long id) {
+        AtomicLong version = id == null ? null : versions.get(id);
+        return version == null ? 0L : version.get();
+    }
+
+    private static void bump(ConcurrentMap<Long, AtomicLong> versions, Long id) {
+        if (id != null) {
+            versions.computeIfAbsent(id, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private static String scope(Long categoryId, Long brandId) {
+        StringBuilder scope = new StringBuilder("global");
+        if (categoryId != null) {
+            scope.append(",category:").append(categoryId);
+        }
+        if (brandId != null) {
+            scope.append(",brand:").append(brandId);
+        }
+        return scope.toString();
+    }
+
+    // Joins the writer's transaction, so other replicas see it only once the write commits
+    private void publish(String scope) {
+        CacheInvalidationPublisher publisher = invalidationPublisher.getIfAvailable();
+        if (publisher != null) {
+            publisher.publish(CACHE_NAME, scope);
+        }
+    }
+
+    private String pageKey(Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return "e" + epoch.get() + ",unpaged";
+        }
+        return "e" + epoch.get() + ",p" + pageable.getPageNumber() + ",s" + pageable.getPageSize() + "," + pageable.getSort();
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? "" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.abhishek.ecommerce.product.cache;
+
+import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
+import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
+import com.abhishek.ecommerce.common.utils.HttpCacheUtils;
+import com.abhishek.ecommerce.product.dto.response.ProductResponseDto;
+import com.abhishek.ecommerce.product.service.ProductService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Product detail responses kept as final UTF-8 JSON ("productJson" cache)
+ *
+ * Flow:
+ * 1. Miss: load the DTO through ProductService (and its "products" cache), wrap it in the
+ *    usual ApiResponse and serialize once with the application ObjectMapper
+ * 2. The bytes are split around the timestamp, so every response still gets a fresh one
+ * 3. Hit: the controller copies prefix + timestamp + suffix to the servlet output stream,
+ *    no DTO or Jackson work at all
+ *
+ * Evicted together with "products" (same @CacheEvict keys in ProductServiceImpl).
+ */
+@Component
+public class ProductJsonCache {
+
+    public static final String CACHE_NAME = "productJson";
+
+    static final String FETCHED_MESSAGE = "Product fetched successfully";
+
+    // Placeholder serialized in place of the timestamp, then cut out
+    private static final String TIMESTAMP_MARKER = "\u0000ts\u0000";
+
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final Cache cache;
+
+    public ProductJsonCache(ProductService productService, ObjectMapper objectMapper, CacheManager cacheManager) {
+        this.productService = productService;
+        this.objectMapper = objectMapper;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public ProductJson get(Long productId) {
+        if (cache == null) {
+            return render(productService.getProductById(productId));
+        }
+        try {
+            return cache.get(productId, () -> render(productService.getProductById(productId)));
+        } catch (Cache.ValueRetrievalException ex) {
+            // Surface ProductNotFoundException etc. to the exception handler unchanged
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+    }
+
+    ProductJson render(ProductResponseDto product) {
+        ApiResponse<ProductResponseDto> response = ApiResponseBuilder.success(FETCHED_MESSAGE, product);
+        response.setTimestamp(TIMESTAMP_MARKER);
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize product " + product.getId(), e);
+        }
+
+        byte[] marker;
+        try {
+            marker = objectMapper.writeValueAsBytes(TIMESTAMP_MARKER);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        int at = indexOf(json, marker);
+        if (at < 0) {
+            throw new IllegalStateException("Timestamp marker not found in serialized product " + product.getId());
+        }
+
+        String etag = HttpCacheUtils.strongEtag(product.getId(), product.getUpdatedAt(),
+                product.getCategoryName(), product.getBrandName(), product.getSellerFullName());
+        return new ProductJson(
+                Arrays.copyOfRange(json, 0, at),
+                Arrays.copyOfRange(json, at + marker.length, json.length),
+                etag);
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Serialized response minus its timestamp value
+     */
+    public record ProductJson(byte[] prefix, byte[] suffix, String etag) {
+
+        public void writeTo(OutputStream out, LocalDateTime timestamp) throws IOException {
+            byte[] time = ('"' + timestamp.toString() + '"').getBytes(StandardCharsets.UTF_8);
+            out.write(prefix);
+            out.write(time);
+            out.write(suffix);
+        }
+
+        public int contentLength(LocalDateTime timestamp) {
+            // ISO-8601 is ASCII, so chars == bytes
+            return prefix.length + timestamp.toString().length() + 2 + suffix.length;
+        }
+    }
+}
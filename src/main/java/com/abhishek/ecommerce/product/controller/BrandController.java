@@ -2,16 +2,20 @@ package com.abhishek.ecommerce.product.controller;
 
 import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
+import com.abhishek.ecommerce.common.utils.HttpCacheUtils;
 import com.abhishek.ecommerce.product.dto.request.BrandCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.BrandUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.BrandResponseDto;
 import com.abhishek.ecommerce.product.service.BrandService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +28,9 @@ public class BrandController {
 
     private final BrandService brandService;
 
+    // Brands change rarely; clients revalidate with ETag / Last-Modified after this
+    private static final CacheControl BRAND_CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
     // ========================= CREATE =========================
     @Operation(
         summary = "Create brand",
@@ -57,10 +64,12 @@ public class BrandController {
 
     // ========================= GET BY ID =========================
     @GetMapping("/{brandId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<BrandResponseDto> getBrandById(@PathVariable Long brandId) {
+    public ResponseEntity<ApiResponse<BrandResponseDto>> getBrandById(@PathVariable Long brandId) {
         BrandResponseDto response = brandService.getBrandById(brandId);
-        return ApiResponseBuilder.success("Brand fetched successfully", response);
+        return HttpCacheUtils.ok(ApiResponseBuilder.success("Brand fetched successfully", response),
+                HttpCacheUtils.strongEtag(response.getId(), response.getUpdatedAt()),
+                response.getUpdatedAt(),
+                BRAND_CACHE);
     }
 
     // ========================= GET ALL =========================
@@ -73,10 +82,12 @@ public class BrandController {
 
     // ========================= GET ALL ACTIVE =========================
     @GetMapping("/active")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<List<BrandResponseDto>> getAllActiveBrands() {
+    public ResponseEntity<ApiResponse<List<BrandResponseDto>>> getAllActiveBrands() {
         List<BrandResponseDto> brands = brandService.getAllActiveBrands();
-        return ApiResponseBuilder.success("Active brands fetched successfully", brands);
+        return HttpCacheUtils.ok(ApiResponseBuilder.success("Active brands fetched successfully", brands),
+                HttpCacheUtils.weakListEtag(brands, BrandResponseDto::getUpdatedAt),
+                null,
+                BRAND_CACHE);
     }
 
     // ========================= SEARCH =========================
@@ -2,16 +2,20 @@ package com.abhishek.ecommerce.product.controller;
 
 import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
+import com.abhishek.ecommerce.common.utils.HttpCacheUtils;
 import com.abhishek.ecommerce.product.dto.request.CategoryCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.CategoryUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.CategoryResponseDto;
 import com.abhishek.ecommerce.product.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +28,9 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
+    // Categories change rarely; clients revalidate with ETag / Last-Modified after this
+    private static final CacheControl CATEGORY_CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
     // ========================= CREATE =========================
     @Operation(
         summary = "Create category",
@@ -57,10 +64,12 @@ public class CategoryController {
 
     // ========================= GET BY ID =========================
     @GetMapping("/{categoryId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<CategoryResponseDto> getCategoryById(@PathVariable Long categoryId) {
+    public ResponseEntity<ApiResponse<CategoryResponseDto>> getCategoryById(@PathVariable Long categoryId) {
         CategoryResponseDto response = categoryService.getCategoryById(categoryId);
-        return ApiResponseBuilder.success("Category fetched successfully", response);
+        return HttpCacheUtils.ok(ApiResponseBuilder.success("Category fetched successfully", response),
+                HttpCacheUtils.strongEtag(response.getId(), response.getUpdatedAt()),
+                response.getUpdatedAt(),
+                CATEGORY_CACHE);
     }
 
     // ========================= GET ALL =========================
@@ -73,10 +82,12 @@ public class CategoryController {
 
     // ========================= GET ALL ACTIVE =========================
     @GetMapping("/active")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<List<CategoryResponseDto>> getAllActiveCategories() {
+    public ResponseEntity<ApiResponse<List<CategoryResponseDto>>> getAllActiveCategories() {
         List<CategoryResponseDto> categories = categoryService.getAllActiveCategories();
-        return ApiResponseBuilder.success("Active categories fetched successfully", categories);
+        return HttpCacheUtils.ok(ApiResponseBuilder.success("Active categories fetched successfully", categories),
+                HttpCacheUtils.weakListEtag(categories, CategoryResponseDto::getUpdatedAt),
+                null,
+                CATEGORY_CACHE);
     }
 
     // ========================= SEARCH =========================
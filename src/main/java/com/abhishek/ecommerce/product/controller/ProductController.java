@@ -3,12 +3,15 @@ package com.abhishek.ecommerce.product.controller;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
 import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
 import com.abhishek.ecommerce.common.apiResponse.PageResponseDto;
+import com.abhishek.ecommerce.common.utils.HttpCacheUtils;
 import com.abhishek.ecommerce.product.dto.request.ProductCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.ProductUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.SellerProductCreateRequestDto;
+import com.abhishek.ecommerce.product.cache.ProductJsonCache;
 import com.abhishek.ecommerce.product.dto.response.ProductResponseDto;
 import com.abhishek.ecommerce.product.service.ProductService;
 import com.abhishek.ecommerce.product.service.ImageUploadService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,13 +20,21 @@ import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
@@ -35,6 +46,11 @@ public class ProductController {
 
     private final ProductService productService;
     private final ImageUploadService imageUploadService;
+    private final ProductJsonCache productJsonCache;
+
+    // Browser/proxy cache lifetimes; clients revalidate with ETag afterwards
+    private static final CacheControl PRODUCT_CACHE = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic();
+    private static final CacheControl LISTING_CACHE = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic();
 
     // ========================= CREATE PRODUCT (WITH IMAGE UPLOAD) =========================
     /**
@@ -216,10 +232,23 @@ public class ProductController {
 
     // ========================= GET BY ID =========================
     @GetMapping("/{productId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<ProductResponseDto> getProductById(@PathVariable Long productId) {
-        ProductResponseDto response = productService.getProductById(productId);
-        return ApiResponseBuilder.success("Product fetched successfully", response);
+    public void getProductById(@PathVariable Long productId,
+                               ServletWebRequest webRequest,
+                               HttpServletResponse response) throws IOException {
+        // Pre-serialized ApiResponse bytes; same body as ApiResponseBuilder.success(...) would produce
+        ProductJsonCache.ProductJson json = productJsonCache.get(productId);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, PRODUCT_CACHE.getHeaderValue());
+        // Category/brand names are embedded and can change without touching the product row,
+        // so they go into the ETag and Last-Modified is not sent
+        if (webRequest.checkNotModified(json.etag())) {
+            return;
+        }
+
+        LocalDateTime timestamp = LocalDateTime.now();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(json.contentLength(timestamp));
+        json.writeTo(response.getOutputStream(), timestamp);
     }
 
     // ========================= GET ALL =========================
@@ -265,11 +294,10 @@ public class ProductController {
         description = "Retrieves all active products with pagination support"
     )
     @GetMapping("/active/paged")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<PageResponseDto<ProductResponseDto>> getAllActiveProductsPaged(
+    public ResponseEntity<ApiResponse<PageResponseDto<ProductResponseDto>>> getAllActiveProductsPaged(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         PageResponseDto<ProductResponseDto> products = productService.getAllActiveProducts(pageable);
-        return ApiResponseBuilder.success("Active products fetched successfully", products);
+        return pageResponse("Active products fetched successfully", products);
     }
 
     // ========================= FILTERING ENDPOINTS =========================
@@ -278,12 +306,11 @@ public class ProductController {
         description = "Retrieves active products filtered by category with pagination"
     )
     @GetMapping("/category/{categoryId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<PageResponseDto<ProductResponseDto>> getProductsByCategory(
+    public ResponseEntity<ApiResponse<PageResponseDto<ProductResponseDto>>> getProductsByCategory(
             @PathVariable Long categoryId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         PageResponseDto<ProductResponseDto> products = productService.getProductsByCategory(categoryId, pageable);
-        return ApiResponseBuilder.success("Products by category fetched successfully", products);
+        return pageResponse("Products by category fetched successfully", products);
     }
 
     @Operation(
@@ -291,12 +318,11 @@ public class ProductController {
         description = "Retrieves active products filtered by brand with pagination"
     )
     @GetMapping("/brand/{brandId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<PageResponseDto<ProductResponseDto>> getProductsByBrand(
+    public ResponseEntity<ApiResponse<PageResponseDto<ProductResponseDto>>> getProductsByBrand(
             @PathVariable Long brandId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         PageResponseDto<ProductResponseDto> products = productService.getProductsByBrand(brandId, pageable);
-        return ApiResponseBuilder.success("Products by brand fetched successfully", products);
+        return pageResponse("Products by brand fetched successfully", products);
     }
 
     @Operation(
@@ -304,8 +330,7 @@ public class ProductController {
         description = "Advanced product filtering by category, brand, price range, and name with pagination"
     )
     @GetMapping("/filter")
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<PageResponseDto<ProductResponseDto>> getProductsFiltered(
+    public ResponseEntity<ApiResponse<PageResponseDto<ProductResponseDto>>> getProductsFiltered(
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Long brandId,
             @RequestParam(required = false) BigDecimal minPrice,
@@ -329,7 +354,7 @@ public class ProductController {
             products = productService.getAllActiveProducts(pageable);
         }
 
-        return ApiResponseBuilder.success("Filtered products fetched successfully", products);
+        return pageResponse("Filtered products fetched successfully", products);
     }
 
     // ========================= ACTIVATE =========================
@@ -370,4 +395,13 @@ public class ProductController {
         productService.deleteProduct(productId);
         return ApiResponseBuilder.success("Product deleted successfully", null);
     }
+
+    // Weak ETag per page; a 304 skips serializing the page. Covers the same embedded names as the
+    // detail ETag (ProductJsonCache): renaming a category, brand or seller does not touch products
+    private ResponseEntity<ApiResponse<PageResponseDto<ProductResponseDto>>> pageResponse(
+            String message, PageResponseDto<ProductResponseDto> products) {
+        String etag = HttpCacheUtils.weakPageEtag(products, ProductResponseDto::getUpdatedAt,
+                p -> Arrays.asList(p.getCategoryName(), p.getBrandName(), p.getSellerFullName()));
+        return HttpCacheUtils.ok(ApiResponseBuilder.success(message, products), etag, null, LISTING_CACHE);
+    }
 }
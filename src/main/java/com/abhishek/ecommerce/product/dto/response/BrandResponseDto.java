@@ -3,6 +3,8 @@ package com.abhishek.ecommerce.product.dto.response;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 public class BrandResponseDto {
@@ -13,6 +15,9 @@ public class BrandResponseDto {
     private String country;
     private String status;
 
+    // Last change, used for HTTP validators (ETag / Last-Modified)
+    private LocalDateTime updatedAt;
+
     public void setId(Long id) {
         this.id = id;
     }
@@ -3,6 +3,8 @@ package com.abhishek.ecommerce.product.dto.response;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 public class CategoryResponseDto {
@@ -12,6 +14,9 @@ public class CategoryResponseDto {
     private String description;
     private String status;
 
+    // Last change, used for HTTP validators (ETag / Last-Modified)
+    private LocalDateTime updatedAt;
+
     public void setId(Long id) {
         this.id = id;
     }
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -17,6 +18,9 @@ public class ProductResponseDto {
     private String sku;
     private String imageUrl;
     private String status;
+
+    // Last change, used for HTTP validators (ETag / Last-Modified)
+    private LocalDateTime updatedAt;
     private Long categoryId;
     private String categoryName;
     private Long brandId;
@@ -1,12 +1,15 @@
 package com.abhishek.ecommerce.product.entity;
 
 import com.abhishek.ecommerce.common.baseEntity.BaseEntity;
+import com.abhishek.ecommerce.config.cache.HibernateCacheConfig;
 import com.abhishek.ecommerce.shared.enums.BrandStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "brands")
@@ -14,6 +17,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.BRAND_REGION)
 public class Brand extends BaseEntity {
 
     @Column(nullable = false, unique = true, length = 150)
@@ -35,6 +35,7 @@ public class BrandMapper {
         dto.setDescription(brand.getDescription());
         dto.setCountry(brand.getCountry());
         dto.setStatus(brand.getStatus() != null ? brand.getStatus().name() : null);
+        dto.setUpdatedAt(brand.getUpdatedAt() != null ? brand.getUpdatedAt() : brand.getCreatedAt());
 
         return dto;
     }
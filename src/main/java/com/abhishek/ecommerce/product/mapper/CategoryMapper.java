@@ -33,6 +33,7 @@ public class CategoryMapper {
         dto.setName(category.getName());
         dto.setDescription(category.getDescription());
         dto.setStatus(category.getStatus() != null ? category.getStatus().name() : null);
+        dto.setUpdatedAt(category.getUpdatedAt() != null ? category.getUpdatedAt() : category.getCreatedAt());
 
         return dto;
     }
@@ -42,6 +42,7 @@ public class ProductMapper {
         dto.setCurrency(product.getPrice() != null ? product.getPrice().getCurrency() : null);
         dto.setStatus(product.getStatus() != null ? product.getStatus().name() : null);
         dto.setSku(product.getSku());
+        dto.setUpdatedAt(product.getUpdatedAt() != null ? product.getUpdatedAt() : product.getCreatedAt());
         dto.setImageUrl(product.getImageUrl());
         dto.setCategoryId(product.getCategory() != null ? product.getCategory().getId() : null);
         dto.setCategoryName(product.getCategory() != null ? product.getCategory().getName() : null);
@@ -2,13 +2,17 @@ package com.abhishek.ecommerce.product.repository;
 
 import com.abhishek.ecommerce.product.entity.Brand;
 import com.abhishek.ecommerce.shared.enums.BrandStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface BrandRepository extends JpaRepository<Brand, Long>
 {
+    // Served from the query cache until a brand row changes
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Brand> findAllByStatus(BrandStatus status);
     
     boolean existsByName(String name);
@@ -2,13 +2,17 @@ package com.abhishek.ecommerce.product.repository;
 
 import com.abhishek.ecommerce.product.entity.Category;
 import com.abhishek.ecommerce.shared.enums.CategoryStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long>
 {
+    // Served from the query cache until a category row changes
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Category> findAllByStatus(CategoryStatus status);
     
     boolean existsByName(String name);
@@ -1,5 +1,7 @@
 package com.abhishek.ecommerce.product.service.impl;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
 import com.abhishek.ecommerce.product.dto.request.BrandCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.BrandUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.BrandResponseDto;
@@ -28,6 +30,8 @@ public class BrandServiceImpl implements BrandService {
 
     private final BrandRepository brandRepository;
     private final BrandMapper brandMapper;
+    private final CatalogVersions catalogVersions;
+    private final NegativeLookupCache negativeLookupCache;
 
     // ========================= CREATE =========================
     @Override
@@ -45,6 +49,7 @@ public class BrandServiceImpl implements BrandService {
         brand.setStatus(BrandStatus.ACTIVE);
 
         Brand savedBrand = brandRepository.save(brand);
+        negativeLookupCache.forget(NegativeLookupCache.BRAND_MISSES, savedBrand.getId());
         log.info("createBrand completed brandId={} name={}", savedBrand.getId(), requestDto.getName());
         return brandMapper.toDto(savedBrand);
     }
@@ -78,6 +83,8 @@ public class BrandServiceImpl implements BrandService {
         }
 
         Brand updatedBrand = brandRepository.save(brand);
+        // Product listings embed the brand name
+        catalogVersions.brandChanged(brandId);
         log.info("updateBrand completed brandId={}", brandId);
         return brandMapper.toDto(updatedBrand);
     }
@@ -85,11 +92,18 @@ public class BrandServiceImpl implements BrandService {
     // ========================= READ =========================
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "brands", key = "#brandId")
+    @Cacheable(value = "brands", key = "#brandId", sync = true)
     public BrandResponseDto getBrandById(Long brandId) {
 
-        Brand brand = brandRepository.findById(brandId)
-                .orElseThrow(() -> new BrandNotFoundException(brandId));
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.BRAND_MISSES, brandId)) {
+            throw new BrandNotFoundException(brandId);
+        }
+
+        Brand brand = brandRepository.findById(brandId).orElse(null);
+        if (brand == null) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.BRAND_MISSES, brandId);
+            throw new BrandNotFoundException(brandId);
+        }
 
         return brandMapper.toDto(brand);
     }
@@ -105,7 +119,7 @@ public class BrandServiceImpl implements BrandService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "brands", key = "'active'")
+    @Cacheable(value = "brands", key = "'active'", sync = true)
     public List<BrandResponseDto> getAllActiveBrands() {
         return brandRepository.findAllByStatus(BrandStatus.ACTIVE)
                 .stream()
@@ -215,6 +229,7 @@ public class BrandServiceImpl implements BrandService {
 
         brand.setStatus(BrandStatus.ACTIVE);
         brandRepository.save(brand);
+        catalogVersions.brandChanged(brandId);
         log.info("activateBrand completed brandId={}", brandId);
     }
 
@@ -228,6 +243,7 @@ public class BrandServiceImpl implements BrandService {
 
         brand.setStatus(BrandStatus.INACTIVE);
         brandRepository.save(brand);
+        catalogVersions.brandChanged(brandId);
         log.info("deactivateBrand completed brandId={}", brandId);
     }
 
@@ -242,6 +258,7 @@ public class BrandServiceImpl implements BrandService {
 
         brand.setStatus(BrandStatus.INACTIVE);
         brandRepository.save(brand);
+        catalogVersions.brandChanged(brandId);
         log.info("deleteBrand completed brandId={}", brandId);
     }
 }
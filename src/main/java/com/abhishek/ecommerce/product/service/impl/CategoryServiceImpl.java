@@ -1,5 +1,7 @@
 package com.abhishek.ecommerce.product.service.impl;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
 import com.abhishek.ecommerce.product.dto.request.CategoryCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.CategoryUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.CategoryResponseDto;
@@ -28,6 +30,8 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CatalogVersions catalogVersions;
+    private final NegativeLookupCache negativeLookupCache;
 
     // ========================= CREATE =========================
     @Override
@@ -45,6 +49,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setStatus(CategoryStatus.ACTIVE);
 
         Category savedCategory = categoryRepository.save(category);
+        negativeLookupCache.forget(NegativeLookupCache.CATEGORY_MISSES, savedCategory.getId());
         log.info("createCategory completed categoryId={} name={}", savedCategory.getId(), requestDto.getName());
         return categoryMapper.toDto(savedCategory);
     }
@@ -75,6 +80,8 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         Category updatedCategory = categoryRepository.save(category);
+        // Product listings embed the category name
+        catalogVersions.categoryChanged(categoryId);
         log.info("updateCategory completed categoryId={}", categoryId);
         return categoryMapper.toDto(updatedCategory);
     }
@@ -82,11 +89,18 @@ public class CategoryServiceImpl implements CategoryService {
     // ========================= READ =========================
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "categories", key = "#categoryId")
+    @Cacheable(value = "categories", key = "#categoryId", sync = true)
     public CategoryResponseDto getCategoryById(Long categoryId) {
 
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new CategoryNotFoundException(categoryId));
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.CATEGORY_MISSES, categoryId)) {
+            throw new CategoryNotFoundException(categoryId);
+        }
+
+        Category category = categoryRepository.findById(categoryId).orElse(null);
+        if (category == null) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.CATEGORY_MISSES, categoryId);
+            throw new CategoryNotFoundException(categoryId);
+        }
 
         return categoryMapper.toDto(category);
     }
@@ -102,7 +116,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "categories", key = "'active'")
+    @Cacheable(value = "categories", key = "'active'", sync = true)
     public List<CategoryResponseDto> getAllActiveCategories() {
         return categoryRepository.findAllByStatus(CategoryStatus.ACTIVE)
                 .stream()
@@ -212,6 +226,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setStatus(CategoryStatus.ACTIVE);
         categoryRepository.save(category);
+        catalogVersions.categoryChanged(categoryId);
         log.info("activateCategory completed categoryId={}", categoryId);
     }
 
@@ -225,6 +240,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setStatus(CategoryStatus.INACTIVE);
         categoryRepository.save(category);
+        catalogVersions.categoryChanged(categoryId);
         log.info("deactivateCategory completed categoryId={}", categoryId);
     }
 
@@ -239,6 +255,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setStatus(CategoryStatus.INACTIVE);
         categoryRepository.save(category);
+        catalogVersions.categoryChanged(categoryId);
         log.info("deleteCategory completed categoryId={}", categoryId);
     }
 }
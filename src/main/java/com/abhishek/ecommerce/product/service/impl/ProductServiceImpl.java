@@ -1,6 +1,8 @@
 package com.abhishek.ecommerce.product.service.impl;
 
 import com.abhishek.ecommerce.common.apiResponse.PageResponseDto;
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
 import com.abhishek.ecommerce.product.dto.request.ProductCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.ProductUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.ProductResponseDto;
@@ -46,10 +48,11 @@ public class ProductServiceImpl implements ProductService {
     private final SecurityUtils securityUtils;
     private final UserRepository userRepository;
     private final InventoryService inventoryService;
+    private final CatalogVersions catalogVersions;
+    private final NegativeLookupCache negativeLookupCache;
 
     // ========================= CREATE =========================
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public ProductResponseDto createProduct(ProductCreateRequestDto requestDto) {
         log.info("createProduct started for sku={}", requestDto.getSku());
 
@@ -93,6 +96,7 @@ public class ProductServiceImpl implements ProductService {
         product.setStatus(ProductStatus.ACTIVE);
 
         Product savedProduct = productRepository.save(product);
+        negativeLookupCache.forget(NegativeLookupCache.PRODUCT_MISSES, savedProduct.getId());
         
         // Create initial inventory record for the product with 0 quantity
         try {
@@ -103,19 +107,26 @@ public class ProductServiceImpl implements ProductService {
             // Don't fail the product creation if inventory creation fails
         }
 
+        // A new product has no by-id entry to evict; only listings of its category/brand go stale
+        catalogVersions.productChanged(category.getId(), brand.getId());
+
         log.info("createProduct completed for sku={}", requestDto.getSku());
         return productMapper.toDto(savedProduct);
     }
 
     // ========================= UPDATE =========================
     @Override
-    @CacheEvict(value = "products", key = "#productId")
+    @CacheEvict(value = {"products", "productJson"}, key = "#productId")
     public ProductResponseDto updateProduct(Long productId, ProductUpdateRequestDto requestDto) {
         log.info("updateProduct started for productId={}", productId);
 
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
 
+        // Listings of the previous category/brand go stale too when the product moves
+        Long previousCategoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        Long previousBrandId = product.getBrand() != null ? product.getBrand().getId() : null;
+
         // Update only provided fields
         if (requestDto.getName() != null) {
             product.setName(requestDto.getName());
@@ -151,6 +162,8 @@ public class ProductServiceImpl implements ProductService {
         }
 
         Product updatedProduct = productRepository.save(product);
+        catalogVersions.productChanged(previousCategoryId, previousBrandId);
+        onProductChanged(updatedProduct);
 
         log.info("updateProduct completed for productId={}", productId);
         return productMapper.toDto(updatedProduct);
@@ -159,11 +172,18 @@ public class ProductServiceImpl implements ProductService {
     // ========================= READ =========================
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "products", key = "#productId")
+    @Cacheable(value = "products", key = "#productId", sync = true)
     public ProductResponseDto getProductById(Long productId) {
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.PRODUCT_MISSES, productId)) {
+            throw new ProductNotFoundException(productId);
+        }
+
+        Product product = productRepository.findById(productId).orElse(null);
+        if (product == null) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.PRODUCT_MISSES, productId);
+            throw new ProductNotFoundException(productId);
+        }
 
         return productMapper.toDto(product);
     }
@@ -209,6 +229,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "productPages", key = "@catalogVersions.activeKey(#pageable)", sync = true)
     public PageResponseDto<ProductResponseDto> getAllActiveProducts(Pageable pageable) {
         Page<Product> productPage = productRepository.findAllByStatus(ProductStatus.ACTIVE, pageable);
         List<ProductResponseDto> content = productPage.getContent()
@@ -231,6 +252,7 @@ public class ProductServiceImpl implements ProductService {
     // ========================= FILTERING METHODS =========================
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "productPages", key = "@catalogVersions.categoryKey(#categoryId, #pageable)", sync = true)
     public PageResponseDto<ProductResponseDto> getProductsByCategory(Long categoryId, Pageable pageable) {
         Page<Product> productPage = productRepository.findByCategoryId(categoryId, pageable);
         List<ProductResponseDto> content = productPage.getContent()
@@ -252,6 +274,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "productPages", key = "@catalogVersions.brandKey(#brandId, #pageable)", sync = true)
     public PageResponseDto<ProductResponseDto> getProductsByBrand(Long brandId, Pageable pageable) {
         Page<Product> productPage = productRepository.findByBrandId(brandId, pageable);
         List<ProductResponseDto> content = productPage.getContent()
@@ -273,6 +296,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "productPages", key = "@catalogVersions.categoryAndBrandKey(#categoryId, #brandId, #pageable)", sync = true)
     public PageResponseDto<ProductResponseDto> getProductsByCategoryAndBrand(Long categoryId, Long brandId, Pageable pageable) {
         Page<Product> productPage = productRepository.findByCategoryIdAndBrandId(categoryId, brandId, pageable);
         List<ProductResponseDto> content = productPage.getContent()
@@ -294,6 +318,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "productPages", key = "@catalogVersions.priceRangeKey(#minPrice, #maxPrice, #pageable)", sync = true)
     public PageResponseDto<ProductResponseDto> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
         Page<Product> productPage = productRepository.findByPriceRange(minPrice, maxPrice, pageable);
         List<ProductResponseDto> content = productPage.getContent()
@@ -336,6 +361,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "productPages", key = "@catalogVersions.activeSearchKey(#name, #pageable)", sync = true)
     public PageResponseDto<ProductResponseDto> searchActiveProductsByName(String name, Pageable pageable) {
         Page<Product> productPage = productRepository.findByStatusAndNameContainingIgnoreCase(ProductStatus.ACTIVE, name, pageable);
         List<ProductResponseDto> content = productPage.getContent()
@@ -358,7 +384,7 @@ public class ProductServiceImpl implements ProductService {
     // ========================= STATUS =========================
     @Override
     @Transactional
-    @CacheEvict(value = "products", key = "#productId")
+    @CacheEvict(value = {"products", "productJson"}, key = "#productId")
     public void activateProduct(Long productId) {
         log.info("activateProduct started for productId={}", productId);
 
@@ -367,13 +393,14 @@ public class ProductServiceImpl implements ProductService {
 
         product.setStatus(ProductStatus.ACTIVE);
         productRepository.save(product);
+        onProductChanged(product);
 
         log.info("activateProduct completed for productId={}", productId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "products", key = "#productId")
+    @CacheEvict(value = {"products", "productJson"}, key = "#productId")
     public void deactivateProduct(Long productId) {
         log.info("deactivateProduct started for productId={}", productId);
         Product product = productRepository.findById(productId)
@@ -381,6 +408,7 @@ public class ProductServiceImpl implements ProductService {
 
         product.setStatus(ProductStatus.INACTIVE);
         productRepository.save(product);
+        onProductChanged(product);
 
         log.info("deactivateProduct completed for productId={}", productId);
     }
@@ -388,7 +416,7 @@ public class ProductServiceImpl implements ProductService {
     // ========================= DELETE (SOFT) =========================
     @Override
     @Transactional
-    @CacheEvict(value = "products", key = "#productId")
+    @CacheEvict(value = {"products", "productJson"}, key = "#productId")
     public void deleteProduct(Long productId) {
         log.info("deleteProduct started for productId={}", productId);
         Product product = productRepository.findById(productId)
@@ -396,9 +424,16 @@ public class ProductServiceImpl implements ProductService {
 
         product.setStatus(ProductStatus.INACTIVE);
         productRepository.save(product);
+        onProductChanged(product);
         log.info("deleteProduct completed for productId={}", productId);
     }
 
+    private void onProductChanged(Product product) {
+        catalogVersions.productChanged(
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getBrand() != null ? product.getBrand().getId() : null);
+    }
+
     // ========================= COUNT OPERATIONS =========================
     @Override
     public long getTotalProductCount() {
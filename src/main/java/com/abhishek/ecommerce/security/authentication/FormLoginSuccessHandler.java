@@ -2,7 +2,7 @@ package com.abhishek.ecommerce.security.authentication;
 
 import com.abhishek.ecommerce.shared.enums.Role;
 import com.abhishek.ecommerce.shared.enums.SellerStatus;
-import com.abhishek.ecommerce.user.repository.UserRepository;
+import com.abhishek.ecommerce.security.userDetails.CustomUserDetails;
 import com.abhishek.ecommerce.security.userDetails.CustomUserDetailsService;
 import com.abhishek.ecommerce.security.jwt.JwtUtil;
 import jakarta.servlet.ServletException;
@@ -12,16 +12,13 @@ import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.Collection;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Form Login Success Handler for Thymeleaf UI authentication.
@@ -39,7 +36,6 @@ import java.util.stream.Collectors;
 @Slf4j
 public class FormLoginSuccessHandler implements AuthenticationSuccessHandler {
 
-    private final UserRepository userRepository;
     private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
 
@@ -54,73 +50,35 @@ public class FormLoginSuccessHandler implements AuthenticationSuccessHandler {
         log.debug("Form login success for user: {}", email);
 
         try {
-            // CRITICAL: Fetch fresh user data from database to get latest roles and seller status
-            // This ensures admin approval changes are reflected immediately on login
-            var user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalStateException("User not found: " + email));
-
-            log.debug("DIAGNOSTIC - User {} loaded from DB with roles: {}", email, user.getRoles());
-            log.info("🔍 DIAGNOSTIC - User {} roles count: {}, roles: {}", email, 
-                    user.getRoles() != null ? user.getRoles().size() : 0, 
-                    user.getRoles());
-
-            // CRITICAL: Reload UserDetails with fresh roles from database
-            // This ensures the principal has the latest roles (including ROLE_SELLER if approved)
-            var userDetails = userDetailsService.loadUserByUsername(email);
-            
-            // Extract fresh authorities from UserDetails (includes latest roles from DB)
-            Collection<SimpleGrantedAuthority> authorities = userDetails.getAuthorities().stream()
-                    .map(auth -> new SimpleGrantedAuthority(auth.getAuthority()))
-                    .collect(Collectors.toList());
-            
-            log.debug("DIAGNOSTIC - Creating authorities for user {}: {}", email, authorities);
-            log.info("🔍 AUTHORITIES FOR {}: {}", email, authorities);
-            
-            // CRITICAL: Build roleNames from fresh UserDetails authorities (not from old user object)
-            // This ensures we have the latest roles from the database
-            Set<String> roleNames = authorities.stream()
-                    .map(auth -> auth.getAuthority())
-                    .collect(Collectors.toSet());
-
-            log.debug("User {} has roles: {} (fresh from UserDetails)", email, roleNames);
-            log.info("🔍 ROLENAMES FOR {}: {}", email, roleNames);
-            
-            // CRITICAL: Reload user from database one more time to ensure we have the latest seller status
-            // This is important because the user might have been approved between the first load and now
-            user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalStateException("User not found: " + email));
-            
-            log.debug("DIAGNOSTIC - Reloaded user {} from DB - sellerStatus: {}, roles: {}", 
-                    email, user.getSellerStatus(), user.getRoles());
-            log.info("🔍 RELOADED USER - Email: {}, SellerStatus: {}, Roles: {}", 
-                    email, user.getSellerStatus(), user.getRoles());
-            
-            // Create new authentication with UserDetails principal and fresh authorities
-            // Using UserDetails ensures full compatibility with Spring Security
+            // The provider loaded the user (with roles and seller status) a moment ago in this
+            // request; build everything from that instance instead of re-reading it
+            CustomUserDetails userDetails = authentication.getPrincipal() instanceof CustomUserDetails details
+                    ? details
+                    : (CustomUserDetails) userDetailsService.loadUserByUsername(email);
+            LoginContext login = LoginContext.of(userDetails.getUser());
+
+            log.debug("User {} has roles: {}, sellerStatus: {}", email, login.roleNames(),
+                    login.user().getSellerStatus());
+
+            // Spring Security saves this context to the session
             UsernamePasswordAuthenticationToken updatedAuth = new UsernamePasswordAuthenticationToken(
-                    userDetails, // Use fresh UserDetails with updated roles
+                    userDetails,
                     authentication.getCredentials(),
-                    authorities // Fresh authorities from database
+                    login.authorities()
             );
-            
-            // CRITICAL: Set authentication in SecurityContext
-            // Spring Security will automatically save this to the session
             SecurityContextHolder.getContext().setAuthentication(updatedAuth);
-            
-            log.debug("Updated SecurityContext with fresh roles for user: {}", email);
-            log.info("✅ SecurityContext updated with UserDetails for user: {} (roles: {})", email, authorities);
 
-            // Determine redirect URL based on roles and seller status (from fresh user object)
-            String redirectUrl = determineRedirectUrl(user, roleNames);
-            
+            // Determine redirect URL based on roles and seller status
+            String redirectUrl = determineRedirectUrl(login.user(), login.roleNames());
+
             // Generate JWT token and set it as a cookie for API authentication
-            String jwtToken = jwtUtil.generateToken(email, roleNames);
+            String jwtToken = jwtUtil.generateToken(login.user());
             Cookie accessTokenCookie = new Cookie("access_token", jwtToken);
             accessTokenCookie.setHttpOnly(false); // Allow JavaScript to read it
             accessTokenCookie.setPath("/");
             accessTokenCookie.setMaxAge(7 * 24 * 60 * 60); // 7 days
             response.addCookie(accessTokenCookie);
-            
+
             log.info("Form login redirect for user {} to {} (JWT token issued)", email, redirectUrl);
             response.sendRedirect(redirectUrl);
 
@@ -0,0 +1,111 @@
+package com.abhishek.ecommerce.security.authentication;
+
+import com.abhishek.ecommerce.config.appProperties.SecurityProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+
+/**
+ * Failed login attempts in a sliding window, kept in memory
+ *
+ * Counted per email (for the account lockout) and per client IP (one address spraying
+ * many accounts). Nothing is written to the users table until an email crosses
+ * config.security.max-failed-attempts; then the caller persists the lock.
+ *
+ * Windows live in a bounded Caffeine cache and each holds at most threshold timestamps,
+ * so a credential-stuffing burst cannot grow memory. Counts are per replica.
+ */
+@Component
+public class LoginAttemptTracker {
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    private final SecurityProperties securityProperties;
+    private final Ticker ticker;
+    private final Cache<String, FailureWindow> windows;
+
+    @Autowired
+    public LoginAttemptTracker(SecurityProperties securityProperties) {
+        this(securityProperties, Ticker.systemTicker());
+    }
+
+    LoginAttemptTracker(SecurityProperties securityProperties, Ticker ticker) {
+        this.securityProperties = securityProperties;
+        this.ticker = ticker;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_KEYS)
+                .expireAfterAccess(window())
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Record a failed attempt; returns the email's failures within the window
+     */
+    public int recordFailure(String email, String ipAddress) {
+        long now = ticker.read();
+        windows.get(ipKey(ipAddress), k -> new FailureWindow()).add(now, window().toNanos(), securityProperties.getMaxFailedAttemptsPerIp());
+        return windows.get(emailKey(email), k -> new FailureWindow()).add(now, window().toNanos(), securityProperties.getMaxFailedAttempts());
+    }
+
+    /**
+     * True once an address reached config.security.max-failed-attempts-per-ip within the window
+     */
+    public boolean isBlocked(String ipAddress) {
+        FailureWindow window = windows.getIfPresent(ipKey(ipAddress));
+        return window != null && window.count(ticker.read(), window().toNanos()) >= securityProperties.getMaxFailedAttemptsPerIp();
+    }
+
+    /**
+     * Forget an email's failures (successful login, or lock persisted)
+     */
+    public void reset(String email) {
+        windows.invalidate(emailKey(email));
+    }
+
+    private Duration window() {
+        return Duration.ofMinutes(securityProperties.getFailedAttemptWindowMinutes());
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String ipAddress) {
+        return "ip:" + ipAddress;
+    }
+
+    /**
+     * Timestamps of recent failures, oldest first, capped at the threshold
+     */
+    private static final class FailureWindow {
+
+        private final ArrayDeque<Long> failures = new ArrayDeque<>();
+
+        synchronized int add(long now, long windowNanos, int limit) {
+            prune(now, windowNanos);
+            failures.addLast(now);
+            while (failures.size() > limit) {
+                failures.removeFirst();
+            }
+            return failures.size();
+        }
+
+        synchronized int count(long now, long windowNanos) {
+            prune(now, windowNanos);
+            return failures.size();
+        }
+
+        private void prune(long now, long windowNanos) {
+            while (!failures.isEmpty() && now - failures.peekFirst() > windowNanos) {
+                failures.removeFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.abhishek.ecommerce.security.authentication;
+
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.user.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Everything a login success handler needs, derived from the one User loaded during login
+ *
+ * Authorities, role names, the JWT and the redirect decision all come from this user, so the
+ * success path issues no further user queries.
+ */
+public record LoginContext(User user, List<SimpleGrantedAuthority> authorities, Set<String> roleNames) {
+
+    public static LoginContext of(User user) {
+        Set<Role> roles = user.getRoles() == null ? Set.of() : user.getRoles();
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.name()))
+                .toList();
+        Set<String> roleNames = roles.stream()
+                .map(Role::name)
+                .collect(Collectors.toUnmodifiableSet());
+        return new LoginContext(user, authorities, roleNames);
+    }
+
+    public String email() {
+        return user.getEmail();
+    }
+
+    public boolean hasRole(Role role) {
+        return roleNames.contains(role.name());
+    }
+}
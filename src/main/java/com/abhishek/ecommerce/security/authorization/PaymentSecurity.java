@@ -3,8 +3,7 @@ package com.abhishek.ecommerce.security.authorization;
 import com.abhishek.ecommerce.order.entity.Order;
 import com.abhishek.ecommerce.payment.entity.Payment;
 import com.abhishek.ecommerce.payment.repository.PaymentRepository;
-import com.abhishek.ecommerce.user.entity.User;
-import com.abhishek.ecommerce.user.repository.UserRepository;
+import com.abhishek.ecommerce.common.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,17 +14,16 @@ import org.springframework.stereotype.Component;
 public class PaymentSecurity {
 
     private final PaymentRepository paymentRepository;
-    private final UserRepository userRepository;
+    private final SecurityUtils securityUtils;
 
     public boolean isPaymentOwner(Long paymentId) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return false;
-        String username = auth.getName();
         Payment payment = paymentRepository.findById(paymentId).orElse(null);
         if (payment == null || payment.getOrder() == null) return false;
         Order order = payment.getOrder();
         if (order.getUser() == null) return false;
-        Long userId = getUserIdFromUsername(username);
+        Long userId = securityUtils.getCurrentUserId();
         if (userId == null) return false;
         return order.getUser().getId().equals(userId);
     }
@@ -33,8 +31,7 @@ public class PaymentSecurity {
     public boolean isOrderOwnerForPayment(Long orderId) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return false;
-        String username = auth.getName();
-        Long userId = getUserIdFromUsername(username);
+        Long userId = securityUtils.getCurrentUserId();
         if (userId == null) return false;
         
         // Find payment by orderId and check ownership
@@ -43,10 +40,5 @@ public class PaymentSecurity {
         if (payment.getOrder().getUser() == null) return false;
         return payment.getOrder().getUser().getId().equals(userId);
     }
-
-    private Long getUserIdFromUsername(String username) {
-        User user = userRepository.findByEmail(username).orElse(null);
-        return user != null ? user.getId() : null;
-    }
 }
 
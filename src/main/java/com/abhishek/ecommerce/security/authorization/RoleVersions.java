@@ -0,0 +1,57 @@
+package com.abhishek.ecommerce.security.authorization;
+
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-user role versions, so sessions notice role changes without polling the user row
+ *
+ * The users.role_version column is the source of truth; this node keeps the values it has
+ * read in the "roleVersions" cache. {@link #bump} evicts the entry, and the eviction reaches
+ * the other replicas through the invalidation log, which then re-read the column once.
+ */
+@Component
+public class RoleVersions {
+
+    public static final String CACHE_NAME = "roleVersions";
+
+    private final UserRepository userRepository;
+    private final Cache cache;
+
+    public RoleVersions(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public int current(Long userId) {
+        Integer version = cache.get(userId, () -> userRepository.findRoleVersionById(userId).orElse(0));
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Mark the user's roles as changed; call inside the transaction that saves the user
+     */
+    public void bump(User user) {
+        user.setRoleVersion(user.getRoleVersion() == null ? 1 : user.getRoleVersion() + 1);
+        Long userId = user.getId();
+        if (userId == null) {
+            return;
+        }
+        cache.evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive() && cache instanceof CaffeineCache caffeineCache) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // A request may have re-cached the old version before commit
+                    caffeineCache.getNativeCache().invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -3,8 +3,7 @@ package com.abhishek.ecommerce.security.authorization;
 import com.abhishek.ecommerce.order.repository.OrderRepository;
 import com.abhishek.ecommerce.order.entity.Order;
 import com.abhishek.ecommerce.product.repository.ProductRepository;
-import com.abhishek.ecommerce.user.repository.UserRepository;
-import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.common.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,7 +19,7 @@ public class SellerSecurity {
 
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
-    private final UserRepository userRepository;
+    private final SecurityUtils securityUtils;
 
     /**
      * Check if current authenticated user is the seller who owns the product
@@ -33,8 +32,7 @@ public class SellerSecurity {
             return false;
         }
 
-        String username = auth.getName();
-        Long userId = getUserIdFromUsername(username);
+        Long userId = securityUtils.getCurrentUserId();
         if (userId == null) {
             return false;
         }
@@ -55,8 +53,7 @@ public class SellerSecurity {
             return false;
         }
 
-        String username = auth.getName();
-        Long userId = getUserIdFromUsername(username);
+        Long userId = securityUtils.getCurrentUserId();
         if (userId == null) {
             return false;
         }
@@ -70,9 +67,4 @@ public class SellerSecurity {
         return order.getItems().stream()
                 .anyMatch(item -> item.getProduct().getSeller() != null && item.getProduct().getSeller().getId().equals(userId));
     }
-
-    private Long getUserIdFromUsername(String username) {
-        User user = userRepository.findByEmail(username).orElse(null);
-        return user != null ? user.getId() : null;
-    }
 }
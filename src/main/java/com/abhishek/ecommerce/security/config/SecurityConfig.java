@@ -5,10 +5,13 @@ import com.abhishek.ecommerce.security.oauth2.OAuth2SuccessHandler;
 import com.abhishek.ecommerce.security.authentication.FormLoginSuccessHandler;
 import com.abhishek.ecommerce.security.exception.RestAccessDeniedHandler;
 import com.abhishek.ecommerce.security.exception.RestAuthenticationEntryPoint;
+import com.abhishek.ecommerce.security.filter.PasswordHashingBusyFilter;
 import com.abhishek.ecommerce.security.filter.SellerRoleRefreshFilter;
 import com.abhishek.ecommerce.security.logout.CustomLogoutSuccessHandler;
+import com.abhishek.ecommerce.security.rateLimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -44,6 +47,7 @@ public class SecurityConfig {
     private final CorsConfigurationSource corsConfigurationSource;
     private final CustomLogoutSuccessHandler customLogoutSuccessHandler;
     private final SellerRoleRefreshFilter sellerRoleRefreshFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Value("${config.security.oauth2.enabled:true}")
     private boolean oauth2Enabled;
@@ -74,6 +78,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/**").authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // After JWT authentication so per-user policies see the user
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(restAuthenticationEntryPoint)
                         .accessDeniedHandler(restAccessDeniedHandler)
@@ -114,7 +120,7 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
                         .requestMatchers(oauth2Enabled ? "/oauth2/**" : "/oauth2-disabled/**").permitAll()
                         .requestMatchers(oauth2Enabled ? "/login/oauth2/**" : "/login-oauth2-disabled/**").permitAll()
-                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
                         .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // Admin UI pages - require ROLE_ADMIN
                         .requestMatchers("/admin/**").hasRole("ADMIN")
@@ -129,6 +135,10 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(sellerRoleRefreshFilter, org.springframework.security.web.access.intercept.AuthorizationFilter.class)
+                // Before form login so POST /login is throttled before the password is checked
+                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                // Saturated BCrypt pool during form login: 503 + Retry-After instead of a 500
+                .addFilterBefore(new PasswordHashingBusyFilter(), UsernamePasswordAuthenticationFilter.class)
                 .formLogin(login -> login
                         .loginPage("/login")
                         .usernameParameter("email")
@@ -170,7 +180,14 @@ public class SecurityConfig {
         return provider;
     }
 
-
-
-
+    /**
+     * RateLimitFilter runs inside the security chains only; as a plain servlet filter it would
+     * run before authentication and per-user policies would fall back to client IPs
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
 }
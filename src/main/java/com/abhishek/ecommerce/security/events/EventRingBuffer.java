@@ -0,0 +1,105 @@
+package com.abhishek.ecommerce.security.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free, multi-producer / single-consumer ring buffer
+ *
+ * - Producers claim a slot with one CAS on the tail and publish it through the slot's sequence
+ *   number; a full buffer makes offer() return false instead of blocking or spinning
+ * - Exactly one thread may call poll()/drain(); it hands each slot back to the producers for
+ *   the next lap by advancing that slot's sequence
+ *
+ * Capacity is rounded up to a power of two.
+ */
+final class EventRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    // sequence == position: free for the producer claiming that position
+    // sequence == position + 1: published, ready for the consumer
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    EventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + requestedCapacity);
+        }
+        int capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Never blocks; false when the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The consumer has not freed this slot from the previous lap
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Consumer thread only; null when nothing is published yet
+     */
+    E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.getAcquire(index) != position + 1) {
+            return null;
+        }
+        E element = slots.getPlain(index);
+        slots.setPlain(index, null);
+        sequences.setRelease(index, position + mask + 1);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Consumer thread only; hands up to max published elements to the sink
+     */
+    int drain(Consumer<? super E> sink, int max) {
+        int drained = 0;
+        E element;
+        while (drained < max && (element = poll()) != null) {
+            sink.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Approximate: claimed slots not yet consumed
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(tail.get() - head, capacity()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.abhishek.ecommerce.security.events;
+
+import org.slf4j.event.Level;
+
+/**
+ * One security event, captured on the request thread and written later by the drain thread
+ *
+ * Only plain values: the request and security context are gone by the time it is written.
+ */
+record SecurityEvent(
+        long timestampMillis,
+        Type type,
+        String username,
+        String ipAddress,
+        String method,
+        String path,
+        String detail
+) {
+
+    enum Type {
+        LOGIN_SUCCESS(Level.WARN),
+        LOGIN_FAILURE(Level.WARN),
+        UNAUTHORIZED_ACCESS(Level.WARN),
+        FORBIDDEN_ACCESS(Level.WARN),
+        TOKEN_VALIDATION_FAILURE(Level.WARN),
+        TOKEN_MISUSE(Level.WARN),
+        ACCOUNT_LOCKOUT(Level.ERROR),
+        PASSWORD_CHANGE(Level.INFO),
+        PASSWORD_RESET_REQUEST(Level.INFO),
+        PASSWORD_RESET_SUCCESS(Level.INFO);
+
+        private final Level level;
+
+        Type(Level level) {
+            this.level = level;
+        }
+
+        Level level() {
+            return level;
+        }
+    }
+}
@@ -1,128 +1,236 @@
 package com.abhishek.ecommerce.security.events;
 
+import com.abhishek.ecommerce.config.appProperties.SecurityEventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Centralized security event logging
+ *
+ * - Each log* call copies plain values (IP, path, current user) into a SecurityEvent and offers
+ *   it to a lock-free ring buffer; the request thread never blocks, formats or touches a pool
+ * - When the buffer is full the event is dropped and counted (security.events.dropped)
+ * - One drain thread takes events off the buffer in batches and writes each as its own log
+ *   event to the SECURITY logger, which has its own appender (logs/security.log) in logback-spring.xml
+ *
+ * Metrics: security.events.written, security.events.dropped, security.events.buffer.size.
  */
 @Slf4j
 @Component
-public class SecurityEventLogger {
-
-    private static final String SECURITY_LOG_PREFIX = "[SECURITY]";
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+public class SecurityEventLogger implements InitializingBean, DisposableBean {
+
+    private static final String EVENTS_LOGGER = "SECURITY";
+    private static final Logger EVENTS = LoggerFactory.getLogger(EVENTS_LOGGER);
+    private static final long SHUTDOWN_WAIT_MS = 5_000;
+
+    private final EventRingBuffer<SecurityEvent> buffer;
+    private final int batchSize;
+    private final long idleWaitNanos;
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    public SecurityEventLogger(SecurityEventProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = new EventRingBuffer<>(properties.getBufferSize());
+        this.batchSize = properties.getBatchSize();
+        this.idleWaitNanos = properties.getIdleWait().toNanos();
+        this.written = Counter.builder("security.events.written")
+                .description("Security events written to the SECURITY log")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("security.events.dropped")
+                .description("Security events dropped because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("security.events.buffer.size", buffer, EventRingBuffer::size)
+                .description("Security events waiting to be written")
+                .register(meterRegistry);
+    }
 
     /**
      * Log authentication success
      */
-    @Async("taskExecutor")
     public void logLoginSuccess(String username, String ipAddress) {
-        log.warn("{} {} LOGIN_SUCCESS | User: {} | IP: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username, ipAddress);
+        publish(SecurityEvent.Type.LOGIN_SUCCESS, username, ipAddress, null, null, null);
     }
 
     /**
      * Log authentication failure
      */
-    @Async("taskExecutor")
     public void logLoginFailure(String username, String ipAddress, String reason) {
-        log.warn("{} {} LOGIN_FAILURE | User: {} | IP: {} | Reason: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username, ipAddress, reason);
+        publish(SecurityEvent.Type.LOGIN_FAILURE, username, ipAddress, null, null, reason);
     }
 
     /**
      * Log unauthorized access attempt (401)
      */
-    @Async("taskExecutor")
     public void logUnauthorizedAccess(HttpServletRequest request, String reason) {
-        String ipAddress = getClientIpAddress(request);
-        String path = request.getRequestURI();
-        String method = request.getMethod();
-        
-        log.warn("{} {} UNAUTHORIZED_ACCESS | IP: {} | Method: {} | Path: {} | Reason: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), ipAddress, method, path, reason);
+        publish(SecurityEvent.Type.UNAUTHORIZED_ACCESS, null, getClientIpAddress(request),
+                request.getMethod(), request.getRequestURI(), reason);
     }
 
     /**
      * Log forbidden access attempt (403)
      */
-    @Async("taskExecutor")
     public void logForbiddenAccess(HttpServletRequest request, String reason) {
-        String ipAddress = getClientIpAddress(request);
-        String path = request.getRequestURI();
-        String method = request.getMethod();
         String username = getCurrentUsername();
-        
-        log.warn("{} {} FORBIDDEN_ACCESS | User: {} | IP: {} | Method: {} | Path: {} | Reason: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username != null ? username : "anonymous", 
-                ipAddress, method, path, reason);
+        publish(SecurityEvent.Type.FORBIDDEN_ACCESS, username != null ? username : "anonymous",
+                getClientIpAddress(request), request.getMethod(), request.getRequestURI(), reason);
     }
 
     /**
-     * Log token validation failure
+     * Log token validation failure (the token itself is never written)
      */
-    @Async("taskExecutor")
     public void logTokenValidationFailure(String token, String reason, HttpServletRequest request) {
-        String ipAddress = getClientIpAddress(request);
-        log.warn("{} {} TOKEN_VALIDATION_FAILURE | IP: {} | Reason: {} | Path: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), ipAddress, reason, request.getRequestURI());
+        publish(SecurityEvent.Type.TOKEN_VALIDATION_FAILURE, null, getClientIpAddress(request),
+                null, request.getRequestURI(), reason);
     }
 
     /**
      * Log token misuse attempt
      */
-    @Async("taskExecutor")
     public void logTokenMisuse(String username, String ipAddress, String reason) {
-        log.warn("{} {} TOKEN_MISUSE | User: {} | IP: {} | Reason: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username, ipAddress, reason);
+        publish(SecurityEvent.Type.TOKEN_MISUSE, username, ipAddress, null, null, reason);
     }
 
     /**
      * Log account lockout
      */
-    @Async("taskExecutor")
     public void logAccountLockout(String username, String ipAddress, int failedAttempts) {
-        log.error("{} {} ACCOUNT_LOCKOUT | User: {} | IP: {} | Failed Attempts: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username, ipAddress, failedAttempts);
+        publish(SecurityEvent.Type.ACCOUNT_LOCKOUT, username, ipAddress, null, null,
+                "failedAttempts=" + failedAttempts);
     }
 
     /**
      * Log password change
      */
-    @Async("taskExecutor")
     public void logPasswordChange(String username, String ipAddress) {
-        log.info("{} {} PASSWORD_CHANGE | User: {} | IP: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username, ipAddress);
+        publish(SecurityEvent.Type.PASSWORD_CHANGE, username, ipAddress, null, null, null);
     }
 
     /**
      * Log password reset request
      */
-    @Async("taskExecutor")
     public void logPasswordResetRequest(String username, String ipAddress) {
-        log.info("{} {} PASSWORD_RESET_REQUEST | User: {} | IP: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username, ipAddress);
+        publish(SecurityEvent.Type.PASSWORD_RESET_REQUEST, username, ipAddress, null, null, null);
     }
 
     /**
      * Log password reset success
      */
-    @Async("taskExecutor")
     public void logPasswordResetSuccess(String username, String ipAddress) {
-        log.info("{} {} PASSWORD_RESET_SUCCESS | User: {} | IP: {}", 
-                SECURITY_LOG_PREFIX, getTimestamp(), username, ipAddress);
+        publish(SecurityEvent.Type.PASSWORD_RESET_SUCCESS, username, ipAddress, null, null, null);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        drainThread = new Thread(this::drainLoop, "security-events");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Stops the drain thread after it has written what is left in the buffer
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (drainThread != null) {
+            LockSupport.unpark(drainThread);
+            drainThread.join(SHUTDOWN_WAIT_MS);
+        }
+    }
+
+    private void publish(SecurityEvent.Type type, String username, String ipAddress,
+                         String method, String path, String detail) {
+        SecurityEvent event = new SecurityEvent(System.currentTimeMillis(), type, username, ipAddress,
+                method, path, detail);
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<SecurityEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            int drained = buffer.drain(batch::add, batchSize);
+            if (drained == 0) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(this, idleWaitNanos);
+                continue;
+            }
+            try {
+                write(batch);
+                written.increment(drained);
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} security events", drained, e);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * One log event per security event, so every line in security.log carries its own level
+     */
+    private void write(List<SecurityEvent> batch) {
+        StringBuilder line = new StringBuilder(128);
+        for (SecurityEvent event : batch) {
+            Level level = event.type().level();
+            if (!EVENTS.isEnabledForLevel(level)) {
+                continue;
+            }
+            line.setLength(0);
+            format(event, line);
+            EVENTS.atLevel(level).log(line.toString());
+        }
     }
 
-    private String getTimestamp() {
-        return LocalDateTime.now().format(FORMATTER);
+    static void format(SecurityEvent event, StringBuilder out) {
+        out.append(Instant.ofEpochMilli(event.timestampMillis()))
+                .append(" event=").append(event.type().name());
+        field(out, "user", event.username());
+        field(out, "ip", event.ipAddress());
+        field(out, "method", event.method());
+        field(out, "path", event.path());
+        field(out, "detail", event.detail());
+    }
+
+    private static void field(StringBuilder out, String key, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(' ').append(key).append("=\"");
+        // Values come from clients; keep each event on one line
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+        out.append('"');
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
@@ -145,13 +253,3 @@ public class SecurityEventLogger {
         return null;
     }
 }
-
-
-
-
-
-
-
-
-
-
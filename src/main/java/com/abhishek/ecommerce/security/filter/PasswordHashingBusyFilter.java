@@ -0,0 +1,43 @@
+package com.abhishek.ecommerce.security.filter;
+
+import com.abhishek.ecommerce.auth.exception.PasswordHashingBusyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Turns a saturated password hashing pool into 503 + Retry-After on the UI chain
+ *
+ * Form login checks the password inside DaoAuthenticationProvider. PasswordHashingBusyException
+ * is not an AuthenticationException, so without this it escapes the security filters as a 500.
+ * The REST chain gets the same answer from GlobalExceptionHandler.
+ *
+ * Added to the UI chain only (SecurityConfig), not registered as a servlet filter.
+ */
+@Slf4j
+public class PasswordHashingBusyFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (PasswordHashingBusyException ex) {
+            log.warn("PasswordHashingBusyException on {} {}: {}", request.getMethod(), request.getRequestURI(), ex.getMessage());
+            if (response.isCommitted()) {
+                throw ex;
+            }
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+            // Rendered by templates/error/503.html
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        }
+    }
+}
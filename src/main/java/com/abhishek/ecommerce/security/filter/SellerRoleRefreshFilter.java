@@ -1,7 +1,7 @@
 package com.abhishek.ecommerce.security.filter;
 
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
-import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import com.abhishek.ecommerce.security.authorization.RoleVersions;
 import com.abhishek.ecommerce.user.entity.User;
 import com.abhishek.ecommerce.user.repository.UserRepository;
 import org.springframework.lang.NonNull;
@@ -9,24 +9,36 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
- * Filter to refresh SecurityContext for approved sellers who don't have ROLE_SELLER in their session.
- * 
- * This handles the case where:
- * - User was approved by admin (status = APPROVED, has ROLE_SELLER in DB)
- * - But their session still has old roles (no ROLE_SELLER)
- * - They try to access /seller/** routes and get 403
- * 
- * This filter runs BEFORE Spring Security checks roles, so it can refresh the session
- * and allow access to seller routes.
+ * Keeps the session's roles in step with the database for /seller/** pages
+ *
+ * The session is stamped with the user's role version when its roles were last read.
+ * Approval, suspension etc. bump that version (see {@link RoleVersions}), so:
+ * - stamp matches the current version: nothing to do, no queries (steady state)
+ * - stamp is stale: reload the principal from the database and save it to the session
+ * - no stamp yet (first seller page of the session): compare the session roles with the
+ *   database once, refresh if they differ, then stamp
+ *
+ * This filter runs BEFORE Spring Security checks roles, so a freshly approved seller
+ * gets ROLE_SELLER on the same request, and a suspended one loses it.
  */
 @Slf4j
 @Component
@@ -34,8 +46,13 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class SellerRoleRefreshFilter extends OncePerRequestFilter {
 
+    static final String ROLE_STAMP_ATTRIBUTE = SellerRoleRefreshFilter.class.getName() + ".ROLE_STAMP";
+
     private final UserRepository userRepository;
     private final SecurityUtils securityUtils;
+    private final RoleVersions roleVersions;
+
+    private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
 
     @Override
     protected void doFilterInternal(
@@ -43,44 +60,82 @@ public class SellerRoleRefreshFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
-        
+
         // Only process seller routes (except /seller/apply which doesn't require ROLE_SELLER)
         String path = request.getRequestURI();
         if (path != null && path.startsWith("/seller/") && !path.equals("/seller/apply")) {
-            
+
             // Check if user is authenticated
-            var auth = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-            if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal().toString())) {
-                
-                Long userId = securityUtils.getCurrentUserId();
-                if (userId != null) {
-                    try {
-                        // Check if user is approved seller in database
-                        User user = userRepository.findById(userId).orElse(null);
-                        if (user != null && SellerStatus.APPROVED.equals(user.getSellerStatus())) {
-                            
-                            // Check if user has ROLE_SELLER in their current session
-                            boolean hasSellerRole = auth.getAuthorities() != null &&
-                                    auth.getAuthorities().stream()
-                                            .anyMatch(authority -> "ROLE_SELLER".equals(authority.getAuthority()));
-                            
-                            // If user is approved but doesn't have ROLE_SELLER in session, refresh it
-                            if (!hasSellerRole) {
-                                log.info("🔄 Refreshing SecurityContext for approved seller {} (missing ROLE_SELLER in session)", userId);
-                                log.info("🔄 Current authorities: {}", auth.getAuthorities());
-                                securityUtils.refreshUserPrincipal(userId);
-                                log.info("✅ SecurityContext refreshed for user {}", userId);
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.warn("Could not refresh SecurityContext in filter for user {}", userId, e);
-                        // Continue with filter chain even if refresh fails
-                    }
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+                try {
+                    syncRoles(auth, request, response);
+                } catch (Exception e) {
+                    log.warn("Could not refresh SecurityContext in filter for user {}", auth.getName(), e);
+                    // Continue with filter chain even if refresh fails
                 }
             }
         }
-        
+
         // Continue with the filter chain
         filterChain.doFilter(request, response);
     }
+
+    private void syncRoles(Authentication auth, HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        RoleStamp stamp = session != null && session.getAttribute(ROLE_STAMP_ATTRIBUTE) instanceof RoleStamp s
+                && s.username().equals(auth.getName()) ? s : null;
+
+        if (stamp != null && stamp.version() == roleVersions.current(stamp.userId())) {
+            return;
+        }
+
+        Long userId = stamp != null ? stamp.userId() : securityUtils.getCurrentUserId();
+        if (userId == null) {
+            return;
+        }
+        // Read before reloading: a bump racing with the reload moves the version again
+        int version = roleVersions.current(userId);
+
+        boolean refresh;
+        if (stamp != null) {
+            log.info("Role version of user {} moved ({} -> {}), refreshing SecurityContext", userId, stamp.version(), version);
+            refresh = true;
+        } else {
+            User user = userRepository.findById(userId).orElse(null);
+            if (user == null) {
+                return;
+            }
+            refresh = !sessionRoles(auth).equals(user.getRoles().stream().map(Enum::name).collect(Collectors.toSet()));
+            if (refresh) {
+                log.info("Session roles {} of user {} differ from the database, refreshing SecurityContext",
+                        auth.getAuthorities(), userId);
+            }
+        }
+
+        Authentication current = auth;
+        if (refresh) {
+            securityUtils.refreshUserPrincipal(userId);
+            current = SecurityContextHolder.getContext().getAuthentication();
+            if (current == auth) {
+                // Refresh failed; try again on the next request
+                return;
+            }
+            securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
+        }
+        request.getSession().setAttribute(ROLE_STAMP_ATTRIBUTE, new RoleStamp(userId, current.getName(), version));
+    }
+
+    private static Set<String> sessionRoles(Authentication auth) {
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Role version the session's authorities were loaded at
+     */
+    record RoleStamp(Long userId, String username, int version) implements Serializable {
+    }
 }
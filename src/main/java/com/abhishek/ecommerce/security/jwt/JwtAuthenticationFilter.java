@@ -1,6 +1,9 @@
 package com.abhishek.ecommerce.security.jwt;
 
 import com.abhishek.ecommerce.security.events.SecurityEventLogger;
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import io.jsonwebtoken.Claims;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -25,37 +29,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
     private final SecurityEventLogger securityEventLogger;
+    private final SecurityVersions securityVersions;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull FilterChain filterChain) throws ServletException, IOException {
-        String token = null;
-        
-        // First, try to get token from Authorization header
-        String header = request.getHeader("Authorization");
-        if (header != null && header.startsWith("Bearer ")) {
-            token = header.substring(7);
-        } else {
-            // If no Authorization header, try to get token from cookie (for UI-based requests)
-            jakarta.servlet.http.Cookie[] cookies = request.getCookies();
-            if (cookies != null) {
-                for (jakarta.servlet.http.Cookie cookie : cookies) {
-                    if (cookie != null && "access_token".equals(cookie.getName())) {
-                        token = cookie.getValue();
-                        break;
-                    }
-                }
-            }
-        }
-        
+        String token = JwtUtil.resolveToken(request);
+
         if (token != null) {
             try {
-                if (jwtUtil.validateToken(token)) {
-                    String username = jwtUtil.getUsernameFromToken(token);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                UsernamePasswordAuthenticationToken auth = authenticate(token);
+                if (auth != null) {
                     SecurityContextHolder.getContext().setAuthentication(auth);
                 } else {
-                    securityEventLogger.logTokenValidationFailure(token, "Token validation failed", request);
+                    securityEventLogger.logTokenValidationFailure(token, "Token revoked", request);
                 }
             } catch (Exception ex) {
                 securityEventLogger.logTokenValidationFailure(token != null ? token : "null", 
@@ -64,4 +51,74 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * A token seen before skips verification entirely; the security version is still checked
+     */
+    private UsernamePasswordAuthenticationToken authenticate(String token) {
+        JwtUserPrincipal cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            if (!securityVersions.isCurrent(cached.getUserId(), cached.getSecurityVersion())) {
+                verifiedTokenCache.invalidate(token);
+                return null;
+            }
+            return authenticated(cached);
+        }
+
+        // Single parse: signature, expiry and claims in one pass
+        Claims claims = jwtUtil.parseClaims(token);
+        UsernamePasswordAuthenticationToken auth = authenticate(claims);
+        if (auth != null && auth.getPrincipal() instanceof JwtUserPrincipal principal) {
+            verifiedTokenCache.put(token, principal, claims.getExpiration().getTime());
+        }
+        return auth;
+    }
+
+    /**
+     * Principal straight from the claims; the only per-request check is the in-memory
+     * security version. Returns null for revoked tokens.
+     */
+    private UsernamePasswordAuthenticationToken authenticate(Claims claims) {
+        if ("refresh".equals(claims.get("type", String.class))) {
+            // Refresh tokens are only accepted by /auth/refresh
+            return null;
+        }
+
+        Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+        Integer securityVersion = claims.get(JwtUtil.CLAIM_SECURITY_VERSION, Integer.class);
+        if (userId == null || securityVersion == null) {
+            // Issued before claims-based principals: load the user as before until it expires
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        }
+
+        if (!securityVersions.isCurrent(userId, securityVersion)) {
+            return null;
+        }
+
+        List<?> roles = claims.get(JwtUtil.CLAIM_ROLES, List.class);
+        JwtUserPrincipal principal = new JwtUserPrincipal(
+                userId,
+                claims.getSubject(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList(),
+                sellerStatus(claims.get(JwtUtil.CLAIM_SELLER_STATUS, String.class)),
+                securityVersion);
+        return authenticated(principal);
+    }
+
+    // A fresh token object per request; only the immutable principal is shared
+    private static UsernamePasswordAuthenticationToken authenticated(JwtUserPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private static SellerStatus sellerStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return SellerStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -1,59 +1,130 @@
 package com.abhishek.ecommerce.security.jwt;
 
 import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.security.oauth2.jwt.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Collection;
 import java.util.Date;
-
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Issues and verifies the HS256 access/refresh tokens
+ *
+ * Keys are derived once at startup and the parser is built once (JwtParser is immutable
+ * and thread-safe), so verifying a token is a single parse + HMAC check.
+ * Every token carries a kid header; verification picks the key by kid, so a retired secret
+ * listed under config.jwt.previous-access-secrets keeps its tokens valid while new tokens
+ * are signed with the current one. Tokens without a kid (issued before rotation support)
+ * are checked against the current key.
+ */
 @Component
 public class JwtUtil {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_SELLER_STATUS = "seller";
+    public static final String CLAIM_SECURITY_VERSION = "sv";
+
     private final JwtProperties jwtProperties;
 
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+
     public JwtUtil(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
+
+        this.signingKeyId = jwtProperties.getAccessKeyId();
+        this.signingKey = hmacKey(jwtProperties.getAccessSecret());
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        jwtProperties.getPreviousAccessSecrets().forEach((kid, secret) -> keys.put(kid, hmacKey(secret)));
+        keys.put(signingKeyId, signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
     // =========================
     // Signing Key (use accessSecret)
     // =========================
-    private Key getSigningKey() {
-        String secret = jwtProperties.getAccessSecret();
+    private static SecretKey hmacKey(String secret) {
         byte[] keyBytes = (secret != null ? secret : "").getBytes(StandardCharsets.UTF_8);
 
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    private Key resolveKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + keyId);
+        }
+        return key;
+    }
+
     // =========================
     // Access Token
 
-    public String generateToken(String username, Collection<String> roles) {
+    // Everything JwtAuthenticationFilter needs to build the principal without loading the user
+    public String generateToken(User user) {
 
         Date now = new Date();
         long expiryMs = jwtProperties.getAccessTokenExpiration();
         Date expiry = new Date(now.getTime() + expiryMs);
 
+        List<String> roles = user.getRoles() == null
+                ? List.of()
+                : user.getRoles().stream().map(Enum::name).sorted().toList();
+
         JwtBuilder builder = Jwts.builder()
-                .setSubject(username)
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
+                .setSubject(user.getEmail())
                 .setIssuedAt(now)
-                .setExpiration(expiry);
+                .setExpiration(expiry)
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_SECURITY_VERSION, user.getSecurityVersion() == null ? 0 : user.getSecurityVersion());
+
+        if (user.getSellerStatus() != null) {
+            builder.claim(CLAIM_SELLER_STATUS, user.getSellerStatus().name());
+        }
 
         // store roles as list and single role for backward compatibility
-        if (roles != null && !roles.isEmpty()) {
-            builder.claim("roles", roles.stream().toList());
-            builder.claim("role", roles.iterator().next()); // First role for backward compatibility
+        if (!roles.isEmpty()) {
+            builder.claim(CLAIM_ROLES, roles);
+            builder.claim("role", roles.get(0)); // First role for backward compatibility
         }
 
         return builder
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -66,21 +137,36 @@ public class JwtUtil {
         Date expiry = new Date(now.getTime() + expiryMs);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
                 .setSubject(username)
+                // Unique per token: refresh tokens are stored by hash, and two issued in the same second would collide
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 // keep your existing refresh marker
                 .claim("type", "refresh")
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // =========================
+    // Verification
+
+    /**
+     * Verify signature and expiry once and return the claims
+     *
+     * @throws JwtException if the token is malformed, expired, signed with an unknown kid or tampered with
+     */
+    public Claims parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new JwtException("Token is empty");
+        }
+        return parser.parseClaimsJws(token).getBody();
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException ex) {
             return false;
@@ -88,15 +174,30 @@ public class JwtUtil {
     }
 
     public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
 
+    /**
+     * Access token of a request: Authorization bearer header first, then the access_token
+     * cookie set for UI logins
+     */
+    public static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookie != null && "access_token".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
     public long getRefreshExpirationSeconds() {
         return jwtProperties.getRefreshTokenExpiration() / 1000;
     }
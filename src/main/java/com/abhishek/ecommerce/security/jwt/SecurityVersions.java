@@ -0,0 +1,85 @@
+package com.abhishek.ecommerce.security.jwt;
+
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-user security versions, used to revoke access tokens without a per-request user lookup
+ *
+ * Flow:
+ * 1. Tokens carry the user's security version ("sv" claim) from when they were issued
+ * 2. Each request compares it with the version held in the "securityVersions" cache
+ *    (one small Integer per active user, loaded once from the users table)
+ * 3. Versions only go up, so a token older than the cached value is rejected outright;
+ *    only a token newer than the cached value (change not seen yet) re-reads the database
+ * 4. {@link #bump} increments the column and evicts the cached value; the eviction
+ *    reaches the other replicas through the invalidation log
+ */
+@Slf4j
+@Component
+public class SecurityVersions {
+
+    public static final String CACHE_NAME = "securityVersions";
+
+    private final UserRepository userRepository;
+    private final Cache cache;
+
+    public SecurityVersions(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    /**
+     * Whether a token issued at tokenVersion is still valid for the user
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer known = cache.get(userId, () -> load(userId));
+        if (known != null && known == tokenVersion) {
+            return true;
+        }
+        if (known != null && known > tokenVersion) {
+            return false;
+        }
+        // Token is newer than what this node has seen (or the user was unknown): ask the database
+        Integer fresh = load(userId);
+        cache.put(userId, fresh);
+        if (fresh == null || fresh != tokenVersion) {
+            log.debug("Rejecting token for user {} at security version {} (current: {})", userId, tokenVersion, fresh);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Revoke every token issued to the user so far.
+     * Call inside the transaction that saves the user; the change is persisted with it.
+     */
+    public void bump(User user) {
+        user.setSecurityVersion(user.getSecurityVersion() == null ? 1 : user.getSecurityVersion() + 1);
+        Long userId = user.getId();
+        if (userId == null) {
+            return;
+        }
+        cache.evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive() && cache instanceof CaffeineCache caffeineCache) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // A request may have re-cached the old version before commit
+                    caffeineCache.getNativeCache().invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private Integer load(Long userId) {
+        return userRepository.findSecurityVersionById(userId).orElse(null);
+    }
+}
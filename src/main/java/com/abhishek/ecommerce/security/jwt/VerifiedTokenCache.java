@@ -0,0 +1,117 @@
+package com.abhishek.ecommerce.security.jwt;
+
+import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access tokens that already passed signature/expiry checks on this replica
+ *
+ * Clients resend the same token for its whole lifetime, so the HMAC check, claims parsing
+ * and principal construction are done once per token instead of once per request.
+ * - Keyed by the SHA-256 of the token; raw tokens are never held in memory
+ * - Each entry expires at the token's own exp claim
+ * - Only claims-based principals are cached; the security version is still checked on every
+ *   hit, so revocations (bumps) apply to cached tokens too
+ * - Local to the replica: nothing here is published to the invalidation log
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    public static final String METRIC_NAME = "verifiedTokens";
+
+    private final Cache<String, Entry> cache;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheMaxSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        long remainingMs = entry.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+        Gauge.builder("security.token.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of JWT requests served without re-verifying the token")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the principal built when this token was first verified, or null if unknown/expired
+     */
+    public JwtUserPrincipal get(String token) {
+        Entry entry = cache.getIfPresent(digest(token));
+        return entry != null ? entry.principal() : null;
+    }
+
+    public void put(String token, JwtUserPrincipal principal, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(digest(token), new Entry(principal, expiresAtMillis));
+    }
+
+    public void invalidate(String token) {
+        if (token != null && !token.isBlank()) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    /**
+     * Drop every cached token of a user (password change).
+     * Linear in the cache size, which is fine for such rare events.
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.asMap().values().removeIf(entry -> userId.equals(entry.principal().getUserId()));
+        log.debug("Dropped verified tokens of user {}", userId);
+    }
+
+    public double hitRatio() {
+        return cache.stats().hitRate();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(JwtUserPrincipal principal, long expiresAtMillis) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.abhishek.ecommerce.security.logout;
 
+import com.abhishek.ecommerce.security.jwt.JwtUtil;
+import com.abhishek.ecommerce.security.jwt.VerifiedTokenCache;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
@@ -16,13 +19,19 @@ import java.io.IOException;
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class CustomLogoutSuccessHandler implements LogoutSuccessHandler {
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     @Override
     public void onLogoutSuccess(HttpServletRequest request, HttpServletResponse response,
                                 Authentication authentication) throws IOException {
         
         log.info("User logged out successfully");
+
+        // Forget the verified access token before its cookie goes away
+        verifiedTokenCache.invalidate(JwtUtil.resolveToken(request));
         
         // Clear JWT cookies if they exist (for OAuth2 users)
         clearCookie(response, "access_token");
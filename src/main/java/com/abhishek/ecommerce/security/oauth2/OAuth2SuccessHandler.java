@@ -3,6 +3,7 @@ package com.abhishek.ecommerce.security.oauth2;
 import com.abhishek.ecommerce.shared.enums.AuthProvider;
 import com.abhishek.ecommerce.shared.enums.Role;
 import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import com.abhishek.ecommerce.security.authentication.LoginContext;
 import com.abhishek.ecommerce.security.jwt.JwtUtil;
 import com.abhishek.ecommerce.user.entity.User;
 import com.abhishek.ecommerce.shared.enums.UserStatus;
@@ -19,14 +20,11 @@ import org.springframework.security.oauth2.client.authentication.OAuth2Authentic
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.Set;
-import java.util.Collection;
-import java.util.stream.Collectors;
 
 /**
  * OAuth2 Success Handler for Thymeleaf UI-based authentication.
@@ -75,49 +73,40 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
         try {
             // 1. Create or retrieve user using dedicated service method
-            // This ensures email uniqueness and prevents duplicate user creation
-            var userDto = userService.findOrCreateOAuthUser(email, name, "GOOGLE");
-            
-            // Fetch the user from repository to get all fields needed for token generation and redirects
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new IllegalStateException("User not found after findOrCreateOAuthUser: " + email));
+            // This ensures email uniqueness and prevents duplicate user creation; the returned
+            // entity is the only user load on this path
+            User user = userService.findOrCreateOAuthUser(email, name, "GOOGLE");
 
             // Ensure user has at least ROLE_USER
             if (user.getRoles() == null || user.getRoles().isEmpty()) {
                 user.setRoles(Set.of(Role.ROLE_USER));
                 user = userRepository.save(user);
             }
+            LoginContext login = LoginContext.of(user);
 
             log.info("OAuth2 login successful for user: {}", email);
 
             // 2. Generate JWT tokens
-            String accessToken = jwtUtil.generateToken(
-                    user.getEmail(),
-                    user.getRoles().stream().map(Role::name).toList()
-            );
+            String accessToken = jwtUtil.generateToken(user);
 
             com.abhishek.ecommerce.auth.entity.RefreshToken refreshTokenEntity =
-                    refreshTokenService.createOrReplaceRefreshToken(user);
+                    refreshTokenService.createRefreshToken(user);
             String refreshToken = refreshTokenEntity.getToken();
 
             // 3. Store tokens in HttpOnly cookies
             storeTokensInCookies(response, accessToken, refreshToken);
 
             // 3.5. Set authentication with roles in SecurityContext for navbar rendering
-            Collection<SimpleGrantedAuthority> authorities = user.getRoles().stream()
-                    .map(role -> new SimpleGrantedAuthority(role.name()))
-                    .collect(Collectors.toList());
-            
             UsernamePasswordAuthenticationToken usernamePasswordAuthToken = new UsernamePasswordAuthenticationToken(
                     user.getEmail(), 
                     null, 
-                    authorities
+                    login.authorities()
             );
             SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthToken);
             log.debug("Set authentication with roles for OAuth2 user: {}", user.getEmail());
 
             // 4. Determine redirect URL based on role and seller status
-            String redirectUrl = determineRedirectUrl(user);
+            String redirectUrl = determineRedirectUrl(login);
 
             log.info("OAuth2 user {} redirected to {}", email, redirectUrl);
             response.sendRedirect(redirectUrl);
@@ -161,14 +150,16 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
      * - SELLER with PENDING/REQUESTED status -> Seller application page
      * - USER -> Home page
      */
-    private String determineRedirectUrl(User user) {
+    private String determineRedirectUrl(LoginContext login) {
+        User user = login.user();
+
         // Check if user is ADMIN
-        if (user.getRoles().contains(Role.ROLE_ADMIN)) {
+        if (login.hasRole(Role.ROLE_ADMIN)) {
             return "/admin/dashboard";
         }
 
         // Check if user is SELLER
-        if (user.getRoles().contains(Role.ROLE_SELLER)) {
+        if (login.hasRole(Role.ROLE_SELLER)) {
             // Check seller status directly from User entity
             SellerStatus sellerStatus = user.getSellerStatus();
             if (sellerStatus == null) {
@@ -1,38 +1,160 @@
 package com.abhishek.ecommerce.security.rateLimit;
 
+import com.abhishek.ecommerce.bootstrap.WarmupRequests;
+import com.abhishek.ecommerce.config.appProperties.RateLimitProperties;
+import com.abhishek.ecommerce.config.appProperties.RateLimitProperties.KeyType;
+import com.abhishek.ecommerce.config.appProperties.RateLimitProperties.Policy;
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Simple Redis-backed fixed-window rate limiter for auth endpoints.
- * - Limits: 10 requests per minute per client IP
- * - Active only when `spring.cache.type=redis` so tests (test profile) remain unaffected.
+ * Token-bucket rate limiter (Bucket4j) applied per route policy
+ *
+ * - One bucket per (policy, client), keyed by client IP or authenticated user
+ * - Buckets live in a Caffeine cache: bounded by config.rate-limit.max-tracked-clients and
+ *   dropped after config.rate-limit.idle-timeout, so a spray of unique IPs cannot grow memory
+ * - Over the limit: 429 with Retry-After (seconds until the next token)
+ * - Counts exported as http.rate.limit.requests{policy, outcome=allowed|rejected}
+ * - CacheWarmup's own replay (see WarmupRequests) is not limited or counted
+ *
+ * Runs inside both security filter chains (after authentication, so user keys are known);
+ * servlet container registration is disabled in SecurityConfig. Limits are per replica.
+ * IP keys use getRemoteAddr(), so behind a proxy server.forward-headers-strategy must be set
+ * (application-prod.yml) or all clients share the proxy's bucket.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis-disabled")
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    private final RateLimitProperties properties;
+    private final WarmupRequests warmupRequests;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, Bucket> buckets;
+    private final Map<String, Counter> allowed = new LinkedHashMap<>();
+    private final Map<String, Counter> rejected = new LinkedHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, WarmupRequests warmupRequests, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.warmupRequests = warmupRequests;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+
+        for (String policy : properties.getPolicies().keySet()) {
+            allowed.put(policy, counter(meterRegistry, policy, "allowed"));
+            rejected.put(policy, counter(meterRegistry, policy, "rejected"));
+        }
+        Gauge.builder("http.rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("Rate limit buckets currently held in memory")
+                .register(meterRegistry);
+    }
+
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
-            throws ServletException, IOException {
-        // Rate limiting disabled (Redis not configured)
-        filterChain.doFilter(request, response);
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || warmupRequests.isWarmupRequest(request);
     }
 
-    private String getClientIP(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Map.Entry<String, Policy> match = findPolicy(request);
+        if (match == null) {
+            filterChain.doFilter(request, response);
+            return;
         }
-        return request.getRemoteAddr();
+
+        String policyName = match.getKey();
+        Policy policy = match.getValue();
+        String key = policyName + ":" + clientKey(policy, request);
+        Bucket bucket = buckets.get(key, k -> newBucket(policy));
+
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            allowed.get(policyName).increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(policyName).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+        log.debug("Rate limit {} exceeded for {} on {} {}", policyName, key, request.getMethod(), request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        String json = String.format("{\"success\":false,\"status\":%d,\"message\":\"%s\",\"data\":null}",
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, retry in " + retryAfterSeconds + "s");
+        response.getWriter().write(json);
+    }
+
+    private Map.Entry<String, Policy> findPolicy(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Policy> entry : properties.getPolicies().entrySet()) {
+            Policy policy = entry.getValue();
+            boolean methodMatches = policy.getMethods().isEmpty()
+                    || policy.getMethods().stream().anyMatch(m -> m.equalsIgnoreCase(request.getMethod()));
+            if (methodMatches && policy.getPaths().stream().anyMatch(p -> pathMatcher.match(p, path))) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(Policy policy, HttpServletRequest request) {
+        if (policy.getKey() == KeyType.USER) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+                if (auth.getPrincipal() instanceof JwtUserPrincipal principal && principal.getUserId() != null) {
+                    return "user:" + principal.getUserId();
+                }
+                return "user:" + auth.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static Bucket newBucket(Policy policy) {
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(policy.getCapacity())
+                        .refillGreedy(policy.getCapacity(), policy.getRefillPeriod())
+                        .build())
+                .build();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String policy, String outcome) {
+        return Counter.builder("http.rate.limit.requests")
+                .description("Requests checked against a rate limit policy")
+                .tag("policy", policy)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
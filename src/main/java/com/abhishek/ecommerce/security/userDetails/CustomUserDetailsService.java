@@ -1,5 +1,6 @@
 package com.abhishek.ecommerce.security.userDetails;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
 import com.abhishek.ecommerce.user.entity.User;
 import com.abhishek.ecommerce.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,11 +14,20 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final NegativeLookupCache negativeLookupCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
+        String missKey = NegativeLookupCache.emailKey(username);
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.USER_MISSES, missKey)) {
+            throw new UsernameNotFoundException("User not found with email: " + username);
+        }
+
+        User user = userRepository.findByEmail(username).orElse(null);
+        if (user == null) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.USER_MISSES, missKey);
+            throw new UsernameNotFoundException("User not found with email: " + username);
+        }
         return new CustomUserDetails(user);
     }
 }
@@ -0,0 +1,84 @@
+package com.abhishek.ecommerce.security.userDetails;
+
+import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal of a JWT-authenticated request, built from the token claims alone
+ * (no user row is loaded). getUsername() is the email, so auth.getName() works as before.
+ */
+public class JwtUserPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final String email;
+    private final List<SimpleGrantedAuthority> authorities;
+    private final SellerStatus sellerStatus;
+    private final int securityVersion;
+
+    public JwtUserPrincipal(Long userId, String email, Collection<String> roles,
+                            SellerStatus sellerStatus, int securityVersion) {
+        this.userId = userId;
+        this.email = email;
+        this.authorities = roles == null ? List.of() : roles.stream().map(SimpleGrantedAuthority::new).toList();
+        this.sellerStatus = sellerStatus;
+        this.securityVersion = securityVersion;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public SellerStatus getSellerStatus() {
+        return sellerStatus;
+    }
+
+    public int getSecurityVersion() {
+        return securityVersion;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        // Token-authenticated; credentials are never needed after login
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
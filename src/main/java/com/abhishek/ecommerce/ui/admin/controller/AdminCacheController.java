@@ -0,0 +1,89 @@
+package com.abhishek.ecommerce.ui.admin.controller;
+
+import com.abhishek.ecommerce.config.cache.admin.CacheAdminService;
+import com.abhishek.ecommerce.config.cache.admin.CacheStatsResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Admin Cache Console
+ * ROLE_ADMIN only - per-cache stats and hot keys on this replica, targeted evict / clear / warm
+ */
+@Slf4j
+@Controller
+@RequestMapping("/admin/caches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCacheController {
+
+    private final CacheAdminService cacheAdminService;
+
+    @GetMapping
+    public String listCaches(@RequestParam(defaultValue = "10") int hotKeys, Model model) {
+        try {
+            List<CacheStatsResponseDto> caches = cacheAdminService.getAllStats(hotKeys);
+            model.addAttribute("title", "Cache Console");
+            model.addAttribute("caches", caches);
+            model.addAttribute("hotKeys", hotKeys);
+            return "admin/caches/list";
+        } catch (Exception e) {
+            log.error("Error loading cache statistics", e);
+            model.addAttribute("errorMessage", "Unable to load cache statistics");
+            return "admin/caches/list";
+        }
+    }
+
+    @PostMapping("/{name}/evict")
+    public String evictKey(@PathVariable String name,
+                           @RequestParam String key,
+                           RedirectAttributes redirectAttributes) {
+        try {
+            boolean present = cacheAdminService.evict(name, key);
+            redirectAttributes.addFlashAttribute("success", "Evicted " + key + " from " + name
+                    + (present ? "" : " (not cached on this replica)"));
+        } catch (Exception e) {
+            log.error("Error evicting cache key", e);
+            redirectAttributes.addFlashAttribute("error", "Failed to evict key: " + e.getMessage());
+        }
+        return "redirect:/admin/caches";
+    }
+
+    @PostMapping("/{name}/clear")
+    public String clearCache(@PathVariable String name,
+                             RedirectAttributes redirectAttributes) {
+        try {
+            cacheAdminService.clear(name);
+            redirectAttributes.addFlashAttribute("success", "Cleared cache " + name);
+        } catch (Exception e) {
+            log.error("Error clearing cache", e);
+            redirectAttributes.addFlashAttribute("error", "Failed to clear cache: " + e.getMessage());
+        }
+        return "redirect:/admin/caches";
+    }
+
+    @PostMapping("/{name}/warm")
+    public String warmCache(@PathVariable String name,
+                            @RequestParam(required = false) String keys,
+                            RedirectAttributes redirectAttributes) {
+        try {
+            List<String> requested = keys == null || keys.isBlank()
+                    ? List.of()
+                    : Arrays.stream(keys.split(",")).map(String::trim).filter(k -> !k.isEmpty()).toList();
+            int warmed = cacheAdminService.warm(name, requested);
+            redirectAttributes.addFlashAttribute("success", "Warmed " + warmed + " entr"
+                    + (warmed == 1 ? "y" : "ies") + " in " + name);
+        } catch (Exception e) {
+            log.error("Error warming cache", e);
+            redirectAttributes.addFlashAttribute("error", "Failed to warm cache: " + e.getMessage());
+        }
+        return "redirect:/admin/caches";
+    }
+}
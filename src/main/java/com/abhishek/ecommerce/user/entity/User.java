@@ -61,6 +61,8 @@ public class User extends BaseEntity {
     private List<Address> addresses = new ArrayList<>();
 
     // Added for security
+    // Deliberately not in the L2 cache: the region is per replica, and a role change must be seen
+    // on every node as soon as the role version bump arrives (SellerRoleRefreshFilter, JWT issuing)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
@@ -78,6 +80,20 @@ public class User extends BaseEntity {
     @Column(name = "locked_until")
     private java.time.LocalDateTime lockedUntil;
 
+    /**
+     * Bumped when already issued tokens must stop working (password, status or role removal).
+     * Access tokens carry it as the "sv" claim, see SecurityVersions.
+     */
+    @Column(name = "security_version", nullable = false)
+    private Integer securityVersion = 0;
+
+    /**
+     * Bumped when the user's roles change without revoking sessions (seller approval,
+     * suspension); see RoleVersions.
+     */
+    @Column(name = "role_version", nullable = false)
+    private Integer roleVersion = 0;
+
     // ======================== SELLER FIELDS ========================
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
@@ -6,10 +6,12 @@ import com.abhishek.ecommerce.shared.enums.SellerStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import jakarta.persistence.QueryHint;
@@ -27,6 +29,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByIdAndStatus(Long id, UserStatus status);
 
+    /**
+     * Only the security version, for validating token claims without loading the user
+     */
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :userId")
+    Optional<Integer> findSecurityVersionById(@Param("userId") Long userId);
+
+    @Query("SELECT u.roleVersion FROM User u WHERE u.id = :userId")
+    Optional<Integer> findRoleVersionById(@Param("userId") Long userId);
+
+    /**
+     * Persist a login lockout without loading the user (failures are counted in memory)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.lockedUntil = :lockedUntil, u.failedLoginAttempts = :attempts WHERE u.email = :email")
+    int lockAccount(@Param("email") String email,
+                    @Param("lockedUntil") LocalDateTime lockedUntil,
+                    @Param("attempts") int attempts);
+
     List<User> findAllByStatus(UserStatus status);
 
     // Seller-related queries
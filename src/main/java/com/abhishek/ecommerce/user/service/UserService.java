@@ -4,6 +4,7 @@ import com.abhishek.ecommerce.user.dto.request.UserCreateRequestDto;
 import com.abhishek.ecommerce.user.dto.request.UserProfileUpdateRequestDto;
 import com.abhishek.ecommerce.user.dto.request.UserUpdateRequestDto;
 import com.abhishek.ecommerce.user.dto.response.UserResponseDto;
+import com.abhishek.ecommerce.user.entity.User;
 import com.abhishek.ecommerce.shared.enums.UserStatus;
 import com.abhishek.ecommerce.shared.enums.SellerStatus;
 import com.abhishek.ecommerce.common.apiResponse.PageResponseDto;
@@ -23,9 +24,9 @@ public interface UserService {
      * @param email OAuth user email
      * @param fullName OAuth user full name
      * @param provider OAuth provider (e.g., GOOGLE, LOCAL)
-     * @return Existing or newly created user
+     * @return Existing or newly created user entity, used directly by the OAuth2 success handler
      */
-    UserResponseDto findOrCreateOAuthUser(String email, String fullName, String provider);
+    User findOrCreateOAuthUser(String email, String fullName, String provider);
 
     // UPDATE
     UserResponseDto updateUser(Long userId, UserUpdateRequestDto requestDto);
@@ -1,5 +1,8 @@
 package com.abhishek.ecommerce.user.service.impl;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.security.authorization.RoleVersions;
+import com.abhishek.ecommerce.security.jwt.SecurityVersions;
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
 import com.abhishek.ecommerce.user.dto.request.UserCreateRequestDto;
 import com.abhishek.ecommerce.user.dto.request.UserProfileUpdateRequestDto;
@@ -43,6 +46,9 @@ public class UserServiceImpl implements UserService {
     private final NotificationService notificationService;
     private final SecurityUtils securityUtils;
     private final SellerApplicationRepository sellerApplicationRepository;
+    private final NegativeLookupCache negativeLookupCache;
+    private final SecurityVersions securityVersions;
+    private final RoleVersions roleVersions;
 
     // ========================= CREATE =========================
     @Override
@@ -60,6 +66,7 @@ public class UserServiceImpl implements UserService {
         user.setStatus(UserStatus.ACTIVE);
 
         User savedUser = userRepository.save(user);
+        negativeLookupCache.forget(NegativeLookupCache.USER_MISSES, NegativeLookupCache.emailKey(savedUser.getEmail()));
 
         log.info("createUser completed for email={}", requestDto.getEmail());
 
@@ -71,14 +78,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    public UserResponseDto findOrCreateOAuthUser(String email, String fullName, String provider) {
+    public User findOrCreateOAuthUser(String email, String fullName, String provider) {
         log.info("findOrCreateOAuthUser: Attempting to find or create OAuth user with email={}, provider={}", email, provider);
 
         // First, check if user already exists with this email
         return userRepository.findByEmail(email)
                 .map(existingUser -> {
                     log.info("findOrCreateOAuthUser: User already exists for email={}, returning existing user", email);
-                    return userMapper.toDto(existingUser);
+                    return existingUser;
                 })
                 .orElseGet(() -> {
                     // User does not exist, create new OAuth user
@@ -92,9 +99,10 @@ public class UserServiceImpl implements UserService {
                     newUser.setProvider(com.abhishek.ecommerce.shared.enums.AuthProvider.valueOf(provider.toUpperCase()));
 
                     User savedUser = userRepository.save(newUser);
+                    negativeLookupCache.forget(NegativeLookupCache.USER_MISSES, NegativeLookupCache.emailKey(email));
                     log.info("findOrCreateOAuthUser: Successfully created new OAuth user with email={}, id={}", email, savedUser.getId());
 
-                    return userMapper.toDto(savedUser);
+                    return savedUser;
                 });
     }
 
@@ -113,6 +121,7 @@ public class UserServiceImpl implements UserService {
 
         if (dto.getPassword() != null) {
             user.setPasswordHash(passwordEncoder.encode(dto.getPassword()));
+            securityVersions.bump(user);
         }
 
         User updatedUser = userRepository.save(user);
@@ -228,6 +237,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         user.setStatus(UserStatus.ACTIVE);
+        securityVersions.bump(user);
         userRepository.save(user);
 
         log.info("activateUser completed for userId={}", userId);
@@ -239,6 +249,7 @@ public class UserServiceImpl implements UserService {
         log.info("deactivateUser started for userId={}", userId);
         User user = getUserOrThrow(userId);
         user.setStatus(UserStatus.INACTIVE);
+        securityVersions.bump(user);
         userRepository.save(user);
         log.info("deactivateUser completed for userId={}", userId);
     }
@@ -251,6 +262,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         user.setStatus(UserStatus.INACTIVE);
+        securityVersions.bump(user);
         userRepository.save(user);
         log.info("deleteUser completed for userId={}", userId);
     }
@@ -265,6 +277,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(userId));
         
         user.setStatus(status);
+        securityVersions.bump(user);
         userRepository.save(user);
         
         log.info("updateUserStatus completed for userId={}, status={}", userId, status);
@@ -320,6 +333,7 @@ public class UserServiceImpl implements UserService {
             throw new IllegalStateException("User already has SELLER role");
         }
         user.getRoles().add(Role.ROLE_SELLER);
+        roleVersions.bump(user);
         userRepository.save(user);
         log.info("assignSellerRole completed for userId={}", userId);
     }
@@ -331,6 +345,8 @@ public class UserServiceImpl implements UserService {
             throw new IllegalStateException("User does not have SELLER role");
         }
         user.getRoles().remove(Role.ROLE_SELLER);
+        securityVersions.bump(user);
+        roleVersions.bump(user);
         userRepository.save(user);
         log.info("removeSellerRole completed for userId={}", userId);
     }
@@ -383,6 +399,7 @@ public class UserServiceImpl implements UserService {
             user.getRoles().add(Role.ROLE_SELLER);
         }
 
+        roleVersions.bump(user);
         user = userRepository.save(user);
         log.info("Seller {} approved by admin {}", userId, adminUserId);
 
@@ -433,6 +450,8 @@ public class UserServiceImpl implements UserService {
         // Remove ROLE_SELLER
         user.getRoles().remove(Role.ROLE_SELLER);
 
+        securityVersions.bump(user);
+        roleVersions.bump(user);
         user = userRepository.save(user);
         log.info("Seller {} rejected by admin {}", userId, adminUserId);
 
@@ -471,6 +490,8 @@ public class UserServiceImpl implements UserService {
         // Remove ROLE_SELLER
         user.getRoles().remove(Role.ROLE_SELLER);
 
+        securityVersions.bump(user);
+        roleVersions.bump(user);
         user = userRepository.save(user);
         log.info("Seller {} suspended by admin {}", userId, adminUserId);
 
@@ -611,6 +632,7 @@ public class UserServiceImpl implements UserService {
             user.getRoles().add(Role.ROLE_SELLER);
         }
 
+        roleVersions.bump(user);
         userRepository.save(user);
 
         log.info("approveSellerApplication completed for userId={}", userId);
@@ -695,6 +717,8 @@ public class UserServiceImpl implements UserService {
         user.setSellerRejectionReason(suspensionReason); // Reuse field for suspension reason
         user.setApprovedByAdmin(currentAdmin);
 
+        securityVersions.bump(user);
+        roleVersions.bump(user);
         userRepository.save(user);
 
         log.info("suspendSeller completed for userId={}", userId);
@@ -732,6 +756,7 @@ public class UserServiceImpl implements UserService {
         user.setSellerRejectionReason(null); // Clear suspension reason
         user.setApprovedByAdmin(currentAdmin);
 
+        roleVersions.bump(user);
         userRepository.save(user);
 
         log.info("activateSuspendedSeller completed for userId={}", userId);
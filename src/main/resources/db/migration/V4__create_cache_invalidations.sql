@@ -0,0 +1,12 @@
+-- =========================
+-- CACHE INVALIDATIONS
+-- Evictions published by one replica and replayed by the others (polled by id)
+-- =========================
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    cache_name VARCHAR(100) NOT NULL,
+    cache_key VARCHAR(512),
+    origin_node VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_cache_invalidations_created_at (created_at)
+);
@@ -0,0 +1,6 @@
+-- =========================
+-- USER SECURITY VERSION
+-- Copied into access tokens ("sv" claim); bumping it revokes every token issued before
+-- =========================
+ALTER TABLE users
+    ADD COLUMN security_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- =========================
+-- USER ROLE VERSION
+-- Bumped on seller approval/suspension; sessions re-read their roles when it moves
+-- =========================
+ALTER TABLE users
+    ADD COLUMN role_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,24 @@
+-- =========================
+-- REFRESH TOKENS: HASHED, ROTATING
+-- Only the SHA-256 of a token is stored (32 bytes instead of a 512-char unique column).
+-- Tokens rotate on every refresh; each login starts a family, and presenting an already
+-- rotated token revokes the whole family. Expired rows are purged in batches.
+-- =========================
+ALTER TABLE refresh_tokens
+    ADD COLUMN token_hash BINARY(32) NULL,
+    ADD COLUMN family_id CHAR(36) NULL,
+    ADD COLUMN rotated_at DATETIME(6) NULL;
+
+-- Existing sessions keep working: hash their tokens in place
+UPDATE refresh_tokens
+SET token_hash = UNHEX(SHA2(token, 256)),
+    family_id  = UUID();
+
+ALTER TABLE refresh_tokens
+    DROP COLUMN token,
+    MODIFY token_hash BINARY(32) NOT NULL,
+    MODIFY family_id CHAR(36) NOT NULL,
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    ADD INDEX idx_refresh_tokens_family_id (family_id),
+    ADD INDEX idx_refresh_tokens_username (username),
+    ADD INDEX idx_refresh_tokens_expires_at (expires_at);
@@ -0,0 +1,14 @@
+-- =========================
+-- PASSWORD RESET TOKENS
+-- Shared by all replicas (a reset requested on one node can be completed on another).
+-- Only the SHA-256 of a token is stored; expired rows are purged in batches.
+-- =========================
+CREATE TABLE IF NOT EXISTS password_reset_tokens (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    token_hash BINARY(32) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_password_reset_tokens_token_hash UNIQUE (token_hash),
+    INDEX idx_password_reset_tokens_email (email),
+    INDEX idx_password_reset_tokens_expires_at (expires_at)
+);
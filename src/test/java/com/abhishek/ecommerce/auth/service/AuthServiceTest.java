@@ -0,0 +1,171 @@
+package com.abhishek.ecommerce.auth.service;
+
+import com.abhishek.ecommerce.auth.dto.AuthResponseDto;
+import com.abhishek.ecommerce.auth.dto.LoginRequestDto;
+import com.abhishek.ecommerce.auth.entity.RefreshToken;
+import com.abhishek.ecommerce.auth.service.impl.AuthServiceImpl;
+import com.abhishek.ecommerce.config.appProperties.SecurityProperties;
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.security.authentication.LoginAttemptTracker;
+import com.abhishek.ecommerce.security.events.SecurityEventLogger;
+import com.abhishek.ecommerce.security.jwt.JwtUtil;
+import com.abhishek.ecommerce.security.userDetails.CustomUserDetails;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.shared.enums.UserStatus;
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    private static final String EMAIL = "buyer@test.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private SecurityEventLogger securityEventLogger;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    private AuthServiceImpl authService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setMaxFailedAttempts(3);
+        securityProperties.setLockoutDurationMinutes(30);
+
+        authService = new AuthServiceImpl(userRepository, passwordEncoder, authenticationManager, jwtUtil,
+                refreshTokenService, securityEventLogger, securityProperties, negativeLookupCache,
+                new LoginAttemptTracker(securityProperties));
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+        user.setRoles(Set.of(Role.ROLE_USER));
+        user.setStatus(UserStatus.ACTIVE);
+        user.setFailedLoginAttempts(0);
+    }
+
+    @Test
+    void login_successWithoutPriorFailures_writesNothingToUsers() {
+        givenSuccessfulAuthentication();
+
+        AuthResponseDto response = authService.login(request());
+
+        assertThat(response.getUserId()).isEqualTo(1L);
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void login_successAfterExpiredLock_clearsFailureState() {
+        user.setFailedLoginAttempts(3);
+        user.setLockedUntil(LocalDateTime.now().minusMinutes(1));
+        givenSuccessfulAuthentication();
+
+        authService.login(request());
+
+        assertThat(user.getFailedLoginAttempts()).isZero();
+        assertThat(user.getLockedUntil()).isNull();
+        verify(userRepository, times(1)).save(user);
+    }
+
+    @Test
+    void login_failures_persistLockOnlyWhenThresholdIsCrossed() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+        when(userRepository.lockAccount(eq(EMAIL), any(LocalDateTime.class), eq(3))).thenReturn(1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> authService.login(request())).isInstanceOf(BadCredentialsException.class);
+        }
+
+        verify(userRepository, times(1)).lockAccount(eq(EMAIL), any(LocalDateTime.class), eq(3));
+        verify(userRepository, never()).save(any());
+        verify(securityEventLogger).logAccountLockout(eq(EMAIL), anyString(), eq(3));
+    }
+
+    @Test
+    void login_ipBlock_ignoresClientSuppliedForwardedFor() {
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("203.0.113.7");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpRequest));
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        try {
+            for (int i = 0; i < 50; i++) {
+                // Rotating the header must not give each attempt a fresh address
+                httpRequest.removeHeader("X-Forwarded-For");
+                httpRequest.addHeader("X-Forwarded-For", "198.51.100." + i);
+                LoginRequestDto attempt = request();
+                attempt.setEmail("user" + i + "@test.com");
+                assertThatThrownBy(() -> authService.login(attempt)).isInstanceOf(BadCredentialsException.class);
+            }
+
+            assertThatThrownBy(() -> authService.login(request()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Too many failed login attempts");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void givenSuccessfulAuthentication() {
+        CustomUserDetails principal = new CustomUserDetails(user);
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(jwtUtil.generateToken(user)).thenReturn("access-token");
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setToken("refresh-token");
+        refreshToken.setExpiresAt(Instant.now().plusSeconds(3600));
+        when(refreshTokenService.createRefreshToken(user)).thenReturn(refreshToken);
+    }
+
+    private static LoginRequestDto request() {
+        LoginRequestDto request = new LoginRequestDto();
+        request.setEmail(EMAIL);
+        request.setPassword("secret");
+        return request;
+    }
+}
@@ -0,0 +1,100 @@
+package com.abhishek.ecommerce.auth.service;
+
+import com.abhishek.ecommerce.auth.entity.PasswordResetToken;
+import com.abhishek.ecommerce.auth.repository.PasswordResetTokenRepository;
+import com.abhishek.ecommerce.auth.service.impl.PasswordResetTokenStore;
+import com.abhishek.ecommerce.support.H2Contexts;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two stores over one H2 database stand in for two replicas
+ */
+class PasswordResetTokenStoreTest {
+
+    private static final String EMAIL = "buyer@test.com";
+
+    private static ConfigurableApplicationContext context;
+    private static PasswordResetTokenStore nodeA;
+    private static PasswordResetTokenStore nodeB;
+    private static PasswordResetTokenRepository repository;
+
+    @BeforeAll
+    static void start() {
+        context = H2Contexts.start(ResetTokenConfig.class, "resetTokens");
+        nodeA = context.getBean("nodeA", PasswordResetTokenStore.class);
+        nodeB = context.getBean("nodeB", PasswordResetTokenStore.class);
+        repository = context.getBean(PasswordResetTokenRepository.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void tokenIssuedOnOneNode_isConsumedOnAnother_once() {
+        String token = nodeA.issue(EMAIL, Duration.ofHours(1));
+
+        assertThat(nodeB.consume(token)).isEqualTo(EMAIL);
+        assertThatThrownBy(() -> nodeA.consume(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid or expired reset token");
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void newRequest_replacesOutstandingToken() {
+        String first = nodeA.issue(EMAIL, Duration.ofHours(1));
+        String second = nodeB.issue(EMAIL, Duration.ofHours(1));
+
+        // nodeA still remembers the first token locally, but the row is gone
+        assertThatThrownBy(() -> nodeA.consume(first)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(nodeA.consume(second)).isEqualTo(EMAIL);
+    }
+
+    @Test
+    void expiredTokens_areRejectedAndReclaimed() throws InterruptedException {
+        String token = nodeA.issue(EMAIL, Duration.ofMillis(50));
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> nodeB.consume(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Reset token has expired");
+        assertThat(nodeA.purgeExpired()).isEqualTo(1);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = PasswordResetToken.class)
+    @EnableJpaRepositories(basePackageClasses = PasswordResetTokenRepository.class)
+    static class ResetTokenConfig {
+
+        @Bean
+        PasswordResetTokenStore nodeA(PasswordResetTokenRepository repository) {
+            return new PasswordResetTokenStore(repository);
+        }
+
+        @Bean
+        PasswordResetTokenStore nodeB(PasswordResetTokenRepository repository) {
+            return new PasswordResetTokenStore(repository);
+        }
+    }
+}
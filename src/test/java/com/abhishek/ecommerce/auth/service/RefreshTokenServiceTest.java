@@ -0,0 +1,140 @@
+package com.abhishek.ecommerce.auth.service;
+
+import com.abhishek.ecommerce.auth.entity.RefreshToken;
+import com.abhishek.ecommerce.auth.repository.RefreshTokenRepository;
+import com.abhishek.ecommerce.auth.service.impl.RefreshTokenServiceImpl;
+import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.security.events.SecurityEventLogger;
+import com.abhishek.ecommerce.security.jwt.JwtUtil;
+import com.abhishek.ecommerce.support.H2Contexts;
+import com.abhishek.ecommerce.user.entity.User;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Rotation, reuse detection and batched purge against H2
+ */
+class RefreshTokenServiceTest {
+
+    private static ConfigurableApplicationContext context;
+    private static RefreshTokenService service;
+    private static RefreshTokenRepository repository;
+
+    @BeforeAll
+    static void start() {
+        context = H2Contexts.start(RefreshTokenConfig.class, "refreshTokens");
+        service = context.getBean(RefreshTokenService.class);
+        repository = context.getBean(RefreshTokenRepository.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    @BeforeEach
+    void clean() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void rotate_issuesSuccessorInSameFamily() {
+        RefreshToken first = service.createRefreshToken(user("buyer@test.com"));
+
+        RefreshToken second = service.rotate(first.getToken(), "10.0.0.1");
+
+        assertThat(second.getToken()).isNotEqualTo(first.getToken());
+        assertThat(second.getFamilyId()).isEqualTo(first.getFamilyId());
+        assertThat(second.getTokenHash()).hasSize(32);
+        assertThat(repository.findById(first.getId()).orElseThrow().getRotatedAt()).isNotNull();
+    }
+
+    @Test
+    void rotate_reusedToken_revokesFamily() {
+        RefreshToken first = service.createRefreshToken(user("buyer@test.com"));
+        RefreshToken second = service.rotate(first.getToken(), "10.0.0.1");
+        RefreshToken otherDevice = service.createRefreshToken(user("buyer@test.com"));
+
+        assertThatThrownBy(() -> service.rotate(first.getToken(), "10.6.6.6"))
+                .isInstanceOf(IllegalStateException.class);
+
+        // The legitimate successor is gone too; other logins are untouched
+        assertThatThrownBy(() -> service.rotate(second.getToken(), "10.0.0.1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Invalid refresh token");
+        assertThat(repository.findById(otherDevice.getId())).isPresent();
+    }
+
+    @Test
+    void purgeExpired_deletesInBatches() {
+        for (int i = 0; i < 7; i++) {
+            repository.save(token("old" + i, Instant.now().minusSeconds(60)));
+        }
+        RefreshToken live = service.createRefreshToken(user("buyer@test.com"));
+
+        // Batch size 3: three DELETEs (3 + 3 + 1)
+        assertThat(service.purgeExpired()).isEqualTo(7);
+        assertThat(repository.findAll()).extracting(RefreshToken::getId).containsExactly(live.getId());
+    }
+
+    private static RefreshToken token(String seed, Instant expiresAt) {
+        RefreshToken token = new RefreshToken();
+        token.setUsername("buyer@test.com");
+        token.setTokenHash(Arrays.copyOf((seed + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8), 32));
+        token.setFamilyId(UUID.randomUUID().toString());
+        token.setExpiresAt(expiresAt);
+        return token;
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        return user;
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = RefreshToken.class)
+    @EnableJpaRepositories(basePackageClasses = RefreshTokenRepository.class)
+    @Import(RefreshTokenServiceImpl.class)
+    static class RefreshTokenConfig {
+
+        @Bean
+        JwtProperties jwtProperties() {
+            JwtProperties properties = new JwtProperties();
+            properties.setAccessSecret("refresh-token-test-access-secret-at-least-32-bytes");
+            properties.setRefreshSecret("refresh-token-test-refresh-secret-at-least-32-bytes");
+            properties.setAccessTokenExpiration(TimeUnit.MINUTES.toMillis(15));
+            properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+            properties.setRefreshTokenPurgeBatchSize(3);
+            return properties;
+        }
+
+        @Bean
+        JwtUtil jwtUtil(JwtProperties jwtProperties) {
+            return new JwtUtil(jwtProperties);
+        }
+
+        @Bean
+        SecurityEventLogger securityEventLogger() {
+            return Mockito.mock(SecurityEventLogger.class);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.abhishek.ecommerce.bootstrap;
+
+import com.abhishek.ecommerce.config.appProperties.RateLimitProperties;
+import com.abhishek.ecommerce.config.appProperties.WarmupProperties;
+import com.abhishek.ecommerce.order.repository.OrderItemRepository;
+import com.abhishek.ecommerce.product.service.BrandService;
+import com.abhishek.ecommerce.product.service.CategoryService;
+import com.abhishek.ecommerce.product.service.ProductService;
+import com.abhishek.ecommerce.security.rateLimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JIT replay against a real local server with the catalog rate limit on and a capacity far
+ * below the replay volume (prod: 300/min against 200 iterations x 3 paths)
+ */
+class CacheWarmupRateLimitTest {
+
+    private static final int CAPACITY = 5;
+    private static final int ITERATIONS = 10;
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void start() {
+        context = new SpringApplicationBuilder(WarmupWebConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .run("--server.port=0", "--spring.main.banner-mode=off");
+    }
+
+    @AfterEach
+    void stop() {
+        context.close();
+    }
+
+    @Test
+    void jitReplay_isNotThrottledAndLeavesTheLoopbackBucketFull() {
+        WarmupProperties warmupProperties = new WarmupProperties();
+        warmupProperties.setJitIterations(ITERATIONS);
+        CacheWarmup cacheWarmup = new CacheWarmup(Mockito.mock(CategoryService.class), Mockito.mock(BrandService.class),
+                Mockito.mock(ProductService.class), Mockito.mock(OrderItemRepository.class), warmupProperties,
+                context.getBean(WarmupRequests.class), context, context.getEnvironment());
+
+        cacheWarmup.run(null);
+
+        assertThat(context.getBean(CatalogStub.class).hits.get())
+                .isEqualTo(ITERATIONS * warmupProperties.getJitPaths().size());
+        assertThat(context.getBean(MeterRegistry.class).get("http.rate.limit.requests")
+                .tag("outcome", "rejected").counter().count()).isZero();
+
+        // Ordinary loopback traffic still gets the whole bucket, and no more
+        RestClient client = RestClient.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        for (int i = 0; i < CAPACITY; i++) {
+            client.get().uri("/api/v1/brands/active").retrieve().toBodilessEntity();
+        }
+        assertThatThrownBy(() -> client.get().uri("/api/v1/brands/active").retrieve().toBodilessEntity())
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+    }
+
+    @RestController
+    static class CatalogStub {
+
+        final AtomicInteger hits = new AtomicInteger();
+
+        @GetMapping({"/api/v1/products/active/paged", "/api/v1/categories/active", "/api/v1/brands/active"})
+        String catalog() {
+            hits.incrementAndGet();
+            return "[]";
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class
+    })
+    @Import({CatalogStub.class, WarmupRequests.class, RateLimitFilter.class})
+    static class WarmupWebConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RateLimitProperties rateLimitProperties() {
+            RateLimitProperties.Policy catalog = new RateLimitProperties.Policy();
+            catalog.setKey(RateLimitProperties.KeyType.IP);
+            catalog.setCapacity(CAPACITY);
+            catalog.setRefillPeriod(Duration.ofMinutes(1));
+            catalog.setPaths(List.of("/api/v1/products/**", "/api/v1/categories/**", "/api/v1/brands/**"));
+            catalog.setMethods(List.of("GET"));
+
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.setEnabled(true);
+            properties.getPolicies().put("catalog", catalog);
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.abhishek.ecommerce.bootstrap;
+
+import com.abhishek.ecommerce.config.appProperties.WarmupProperties;
+import com.abhishek.ecommerce.order.repository.OrderItemRepository;
+import com.abhishek.ecommerce.product.service.BrandService;
+import com.abhishek.ecommerce.product.service.CategoryService;
+import com.abhishek.ecommerce.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupTest {
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private BrandService brandService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Environment environment;
+
+    private WarmupProperties warmupProperties;
+    private CacheWarmup cacheWarmup;
+
+    @BeforeEach
+    void setUp() {
+        warmupProperties = new WarmupProperties();
+        warmupProperties.setTimeout(Duration.ofSeconds(5));
+        cacheWarmup = new CacheWarmup(categoryService, brandService, productService, orderItemRepository,
+                warmupProperties, new WarmupRequests(), eventPublisher, environment);
+    }
+
+    @Test
+    void run_shouldPreloadCatalogAndTopSellers() {
+        when(orderItemRepository.findTopSellingProductIds(any(Pageable.class))).thenReturn(List.of(7L, 3L));
+
+        cacheWarmup.run(null);
+
+        verify(eventPublisher).publishEvent(any(AvailabilityChangeEvent.class));
+        verify(categoryService).getAllActiveCategories();
+        verify(brandService).getAllActiveBrands();
+        verify(productService).getAllActiveProducts(any(Pageable.class));
+        verify(productService).getProductById(7L);
+        verify(productService).getProductById(3L);
+    }
+
+    @Test
+    void run_shouldContinueWhenAStepFails() {
+        when(categoryService.getAllActiveCategories()).thenThrow(new IllegalStateException("db down"));
+
+        cacheWarmup.run(null);
+
+        verify(brandService).getAllActiveBrands();
+    }
+
+    @Test
+    void run_shouldGiveUpAfterTimeout() {
+        warmupProperties.setTimeout(Duration.ofMillis(100));
+        when(categoryService.getAllActiveCategories()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+
+        long start = System.currentTimeMillis();
+        cacheWarmup.run(null);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(2_000);
+    }
+}
@@ -0,0 +1,100 @@
+package com.abhishek.ecommerce.common.utils;
+
+import com.abhishek.ecommerce.common.apiResponse.PageResponseDto;
+import com.abhishek.ecommerce.product.controller.CategoryController;
+import com.abhishek.ecommerce.product.dto.response.CategoryResponseDto;
+import com.abhishek.ecommerce.product.dto.response.ProductResponseDto;
+import com.abhishek.ecommerce.product.service.CategoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class HttpCacheUtilsTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @Test
+    void strongEtag_changesWithUpdatedAtAndEmbeddedFields() {
+        String etag = HttpCacheUtils.strongEtag(1L, UPDATED_AT, "Electronics");
+
+        assertThat(etag).startsWith("\"1-").endsWith("\"");
+        assertThat(HttpCacheUtils.strongEtag(1L, UPDATED_AT.plusSeconds(1), "Electronics")).isNotEqualTo(etag);
+        assertThat(HttpCacheUtils.strongEtag(1L, UPDATED_AT, "Phones")).isNotEqualTo(etag);
+        assertThat(HttpCacheUtils.strongEtag(1L, null)).isNull();
+    }
+
+    @Test
+    void weakPageEtag_usesNewestUpdatedAtAndCount() {
+        CategoryResponseDto older = category(1L, UPDATED_AT);
+        CategoryResponseDto newer = category(2L, UPDATED_AT.plusMinutes(5));
+        PageResponseDto<CategoryResponseDto> page = PageResponseDto.<CategoryResponseDto>builder()
+                .content(List.of(older, newer))
+                .totalElements(40)
+                .build();
+
+        String etag = HttpCacheUtils.weakPageEtag(page, CategoryResponseDto::getUpdatedAt);
+
+        assertThat(etag).startsWith("W/\"").endsWith("-2-40\"");
+        page.setTotalElements(39);
+        assertThat(HttpCacheUtils.weakPageEtag(page, CategoryResponseDto::getUpdatedAt)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void weakPageEtag_changesWhenAnEmbeddedNameChanges() {
+        ProductResponseDto product = new ProductResponseDto();
+        product.setId(1L);
+        product.setUpdatedAt(UPDATED_AT);
+        product.setCategoryName("Phones");
+        PageResponseDto<ProductResponseDto> page = PageResponseDto.<ProductResponseDto>builder()
+                .content(List.of(product))
+                .totalElements(1)
+                .build();
+        Function<ProductResponseDto, ?> names = p -> Arrays.asList(p.getCategoryName(), p.getBrandName());
+
+        String etag = HttpCacheUtils.weakPageEtag(page, ProductResponseDto::getUpdatedAt, names);
+
+        // Category renamed: the product row and its updatedAt are untouched
+        product.setCategoryName("Smartphones");
+        assertThat(HttpCacheUtils.weakPageEtag(page, ProductResponseDto::getUpdatedAt, names)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void matchingIfNoneMatch_returns304WithoutBody() throws Exception {
+        CategoryService categoryService = mock(CategoryService.class);
+        when(categoryService.getCategoryById(1L)).thenReturn(category(1L, UPDATED_AT));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CategoryController(categoryService)).build();
+
+        String etag = mockMvc.perform(get("/api/v1/categories/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/categories/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private static CategoryResponseDto category(Long id, LocalDateTime updatedAt) {
+        CategoryResponseDto dto = new CategoryResponseDto();
+        dto.setId(id);
+        dto.setName("Category " + id);
+        dto.setStatus("ACTIVE");
+        dto.setUpdatedAt(updatedAt);
+        return dto;
+    }
+}
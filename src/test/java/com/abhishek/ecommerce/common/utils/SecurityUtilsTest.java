@@ -0,0 +1,110 @@
+package com.abhishek.ecommerce.common.utils;
+
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityUtilsTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @InjectMocks
+    private SecurityUtils securityUtils;
+
+    @BeforeEach
+    void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void endRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sessionLogin_resolvesUserOncePerRequest() {
+        login("user@test.com");
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user(3L, "user@test.com")));
+
+        // What one order/payment request does today: ownership check, service lookups, navbar
+        assertThat(securityUtils.isUserId(3L)).isTrue();
+        assertThat(securityUtils.getCurrentUserId()).isEqualTo(3L);
+        assertThat(securityUtils.getCurrentUser().isAdmin()).isFalse();
+        assertThat(securityUtils.isSellerApproved()).isTrue();
+
+        verify(userRepository, times(1)).findByEmail("user@test.com");
+    }
+
+    @Test
+    void jwtPrincipal_resolvesFromClaimsWithoutQuery() {
+        JwtUserPrincipal principal = new JwtUserPrincipal(9L, "jwt@test.com",
+                List.of("ROLE_USER", "ROLE_ADMIN"), null, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        CurrentUser current = securityUtils.getCurrentUser();
+
+        assertThat(current.getId()).isEqualTo(9L);
+        assertThat(current.getRoles()).containsExactlyInAnyOrder(Role.ROLE_USER, Role.ROLE_ADMIN);
+        assertThat(securityUtils.isUserId(9L)).isTrue();
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void changedAuthentication_isResolvedAgain() {
+        login("first@test.com");
+        when(userRepository.findByEmail("first@test.com")).thenReturn(Optional.of(user(1L, "first@test.com")));
+        when(userRepository.findByEmail("second@test.com")).thenReturn(Optional.of(user(2L, "second@test.com")));
+
+        assertThat(securityUtils.getCurrentUserId()).isEqualTo(1L);
+        login("second@test.com");
+        assertThat(securityUtils.getCurrentUserId()).isEqualTo(2L);
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setRoles(Set.of(Role.ROLE_USER, Role.ROLE_SELLER));
+        user.setSellerStatus(SellerStatus.APPROVED);
+        return user;
+    }
+}
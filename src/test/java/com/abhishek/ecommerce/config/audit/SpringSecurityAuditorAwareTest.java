@@ -0,0 +1,161 @@
+package com.abhishek.ecommerce.config.audit;
+
+import com.abhishek.ecommerce.common.baseEntity.Address;
+import com.abhishek.ecommerce.common.utils.SecurityUtils;
+import com.abhishek.ecommerce.product.entity.Category;
+import com.abhishek.ecommerce.product.repository.CategoryRepository;
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import com.abhishek.ecommerce.shared.enums.AuthProvider;
+import com.abhishek.ecommerce.shared.enums.CategoryStatus;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.shared.enums.UserStatus;
+import com.abhishek.ecommerce.support.H2Contexts;
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements of a write-heavy request (ten audited inserts, like an order
+ * with ten items) to check the auditor no longer looks the user up on every save.
+ */
+class SpringSecurityAuditorAwareTest {
+
+    private static final int WRITES = 10;
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    private static ConfigurableApplicationContext context;
+    private static TransactionTemplate tx;
+    private static Statistics statistics;
+    private static CategoryRepository categories;
+    private static Long userId;
+
+    @BeforeAll
+    static void start() {
+        context = H2Contexts.start(AuditConfig.class, "auditor",
+                "spring.jpa.properties.hibernate.generate_statistics=true");
+        tx = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        categories = context.getBean(CategoryRepository.class);
+        userId = tx.execute(status -> context.getBean(UserRepository.class).save(user("buyer@test.com")).getId());
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    @BeforeEach
+    void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void endRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void jwtRequest_auditsFromClaimsWithoutUserQueries() {
+        JwtUserPrincipal principal = new JwtUserPrincipal(userId, "buyer@test.com", List.of("ROLE_USER"), null, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        List<Category> saved = writeCategories();
+
+        // Inserts only; previously one user select per insert on top
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(WRITES);
+        assertThat(saved).allSatisfy(category -> assertThat(category.getCreatedBy()).isEqualTo(userId.toString()));
+    }
+
+    @Test
+    void sessionRequest_looksUserUpOncePerRequest() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "buyer@test.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        List<Category> saved = writeCategories();
+
+        // One user lookup for the whole request (users + user_roles)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(WRITES + 2);
+        assertThat(saved).allSatisfy(category -> assertThat(category.getCreatedBy()).isEqualTo(userId.toString()));
+    }
+
+    @Test
+    void backgroundWrite_isAuditedAsSystem() {
+        RequestContextHolder.resetRequestAttributes();
+
+        List<Category> saved = writeCategories();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(WRITES);
+        assertThat(saved).allSatisfy(category ->
+                assertThat(category.getCreatedBy()).isEqualTo(SpringSecurityAuditorAware.SYSTEM));
+    }
+
+    private static List<Category> writeCategories() {
+        return tx.execute(status -> {
+            List<Category> batch = new ArrayList<>();
+            for (int i = 0; i < WRITES; i++) {
+                Category category = new Category();
+                category.setName("Audited " + NAMES.incrementAndGet());
+                category.setStatus(CategoryStatus.ACTIVE);
+                batch.add(categories.save(category));
+            }
+            return batch;
+        });
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setStatus(UserStatus.ACTIVE);
+        user.setProvider(AuthProvider.LOCAL);
+        user.setRoles(Set.of(Role.ROLE_USER));
+        return user;
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = {Category.class, User.class, Address.class})
+    @EnableJpaRepositories(basePackageClasses = {CategoryRepository.class, UserRepository.class})
+    @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
+    @Import({SpringSecurityAuditorAware.class, SecurityUtils.class})
+    static class AuditConfig {
+
+        @Bean
+        UserDetailsService userDetailsService() {
+            return username -> {
+                throw new UsernameNotFoundException(username);
+            };
+        }
+    }
+}
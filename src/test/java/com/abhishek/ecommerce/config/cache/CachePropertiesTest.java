@@ -0,0 +1,37 @@
+package com.abhishek.ecommerce.config.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachePropertiesTest {
+
+    @Test
+    void partialSpec_takesUnsetValuesFromConfiguredDefaults() {
+        CacheProperties properties = new CacheProperties();
+        properties.getDefaults().setMaximumSize(500L);
+        properties.getDefaults().setExpireAfterWrite(Duration.ofMinutes(3));
+        CacheProperties.CacheSpec users = new CacheProperties.CacheSpec();
+        users.setExpireAfterAccess(Duration.ofMinutes(5));
+        properties.getSpecs().put("users", users);
+
+        CacheProperties.CacheSpec effective = properties.specFor("users");
+
+        assertThat(effective.getMaximumSize()).isEqualTo(500L);
+        assertThat(effective.getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(3));
+        assertThat(effective.getExpireAfterAccess()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(effective.getMaximumWeight()).isNull();
+    }
+
+    @Test
+    void unconfiguredCache_usesDefaults() {
+        CacheProperties properties = new CacheProperties();
+
+        CacheProperties.CacheSpec effective = properties.specFor("orders");
+
+        assertThat(effective.getMaximumSize()).isEqualTo(1000L);
+        assertThat(effective.getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(10));
+    }
+}
@@ -0,0 +1,92 @@
+package com.abhishek.ecommerce.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingCaffeineCacheTest {
+
+    private CoalescingCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CoalescingCaffeineCache("products",
+                Caffeine.newBuilder().maximumSize(100).recordStats().build(),
+                true,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentMisses_runLoaderOnce() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    releaseLoader.await(5, TimeUnit.SECONDS);
+                    return "product-1";
+                })));
+            }
+
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            // Give the other callers time to pile up on the in-flight load
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.getCoalescedWaiterCount() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product-1");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getCoalescedWaiterCount()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void hit_doesNotInvokeLoader() {
+        cache.put(2L, "cached");
+
+        String value = cache.get(2L, () -> {
+            throw new IllegalStateException("loader must not run");
+        });
+
+        assertThat(value).isEqualTo("cached");
+        assertThat(cache.getNativeCache().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderFailure_isPropagatedAndNotCached() {
+        assertThatThrownBy(() -> cache.get(3L, () -> {
+            throw new IllegalArgumentException("not found");
+        })).isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get(3L)).isNull();
+    }
+}
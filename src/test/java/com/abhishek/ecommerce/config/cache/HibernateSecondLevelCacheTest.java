@@ -0,0 +1,151 @@
+package com.abhishek.ecommerce.config.cache;
+
+import com.abhishek.ecommerce.common.baseEntity.Address;
+import com.abhishek.ecommerce.config.cache.invalidation.CacheInvalidation;
+import com.abhishek.ecommerce.product.entity.Category;
+import com.abhishek.ecommerce.product.repository.CategoryRepository;
+import com.abhishek.ecommerce.shared.enums.AuthProvider;
+import com.abhishek.ecommerce.shared.enums.CategoryStatus;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.shared.enums.UserStatus;
+import com.abhishek.ecommerce.support.H2Contexts;
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements of the catalog and auth lookups with the second-level cache on.
+ */
+class HibernateSecondLevelCacheTest {
+
+    private static ConfigurableApplicationContext context;
+    private static TransactionTemplate tx;
+    private static Statistics statistics;
+
+    @BeforeAll
+    static void start() {
+        context = H2Contexts.start(L2Config.class, "l2-cache");
+        tx = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void categoryById_isServedFromSecondLevelCache() {
+        CategoryRepository categories = context.getBean(CategoryRepository.class);
+        Long id = tx.execute(status -> categories.save(category("Electronics")).getId());
+
+        long first = statementsFor(() -> tx.execute(status -> categories.findById(id).orElseThrow()));
+        long second = statementsFor(() -> tx.execute(status -> categories.findById(id).orElseThrow()));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.CATEGORY_REGION).getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void activeCategories_secondCallHitsQueryCache() {
+        CategoryRepository categories = context.getBean(CategoryRepository.class);
+        tx.executeWithoutResult(status -> categories.save(category("Books")));
+
+        long first = statementsFor(() -> tx.execute(status -> categories.findAllByStatus(CategoryStatus.ACTIVE)));
+        long second = statementsFor(() -> tx.execute(status -> categories.findAllByStatus(CategoryStatus.ACTIVE)));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByEmail_readsRolesFromTheDatabaseEveryTime() {
+        UserRepository users = context.getBean(UserRepository.class);
+        Long id = tx.execute(status -> users.save(user("roles@test.com")).getId());
+        Supplier<Set<Role>> lookup = () -> tx.execute(status ->
+                Set.copyOf(users.findByEmail("roles@test.com").orElseThrow().getRoles()));
+        assertThat(lookup.get()).contains(Role.ROLE_SELLER);
+
+        // Another replica suspends the seller: plain JDBC, so Hibernate on this node evicts nothing
+        new JdbcTemplate(context.getBean(DataSource.class))
+                .update("DELETE FROM user_roles WHERE user_id = ? AND role = 'ROLE_SELLER'", id);
+
+        assertThat(lookup.get()).containsExactly(Role.ROLE_USER);
+    }
+
+    @Test
+    void remoteCategoryChange_evictsTheCategoryRegion() {
+        CategoryRepository categories = context.getBean(CategoryRepository.class);
+        Long id = tx.execute(status -> categories.save(category("Garden")).getId());
+        Supplier<String> name = () -> tx.execute(status -> categories.findById(id).orElseThrow().getName());
+        assertThat(name.get()).isEqualTo("Garden");
+
+        // Another replica renames it and logs a "categories" clear
+        new JdbcTemplate(context.getBean(DataSource.class)).update("UPDATE categories SET name = ? WHERE id = ?", "Outdoor", id);
+        assertThat(name.get()).isEqualTo("Garden");
+        CacheInvalidation row = new CacheInvalidation();
+        row.setCacheName("categories");
+        context.getBean(HibernateRegionInvalidator.class).beforeEviction(List.of(row));
+
+        assertThat(name.get()).isEqualTo("Outdoor");
+    }
+
+    private static long statementsFor(Supplier<?> work) {
+        long before = statistics.getPrepareStatementCount();
+        work.get();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private static Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setStatus(CategoryStatus.ACTIVE);
+        return category;
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setStatus(UserStatus.ACTIVE);
+        user.setProvider(AuthProvider.LOCAL);
+        user.setRoles(Set.of(Role.ROLE_USER, Role.ROLE_SELLER));
+        return user;
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = {Category.class, User.class, Address.class})
+    @EnableJpaRepositories(basePackageClasses = {CategoryRepository.class, UserRepository.class})
+    @EnableConfigurationProperties
+    @Import({CacheProperties.class, HibernateCacheConfig.class, HibernateRegionInvalidator.class})
+    static class L2Config {
+    }
+}
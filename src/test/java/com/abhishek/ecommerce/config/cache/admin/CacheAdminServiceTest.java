@@ -0,0 +1,104 @@
+package com.abhishek.ecommerce.config.cache.admin;
+
+import com.abhishek.ecommerce.config.appProperties.WarmupProperties;
+import com.abhishek.ecommerce.config.cache.CacheConfig;
+import com.abhishek.ecommerce.config.cache.CacheProperties;
+import com.abhishek.ecommerce.product.cache.ProductJsonCache;
+import com.abhishek.ecommerce.product.service.BrandService;
+import com.abhishek.ecommerce.product.service.CategoryService;
+import com.abhishek.ecommerce.product.service.ProductService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CacheAdminServiceTest {
+
+    private CacheManager cacheManager;
+    private ProductService productService;
+    private CategoryService categoryService;
+    private CacheAdminService cacheAdminService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cacheManager = new CacheConfig(new CacheProperties(), new SimpleMeterRegistry(),
+                mock(ObjectProvider.class)).cacheManager();
+        productService = mock(ProductService.class);
+        categoryService = mock(CategoryService.class);
+        cacheAdminService = new CacheAdminService(cacheManager, productService, mock(ProductJsonCache.class),
+                categoryService, mock(BrandService.class), new WarmupProperties());
+    }
+
+    @Test
+    void getStats_reportsHitsMissesAndHotKeys() {
+        Cache products = cacheManager.getCache("products");
+        products.put(1L, "phone");
+        products.put(2L, "laptop");
+        for (int i = 0; i < 5; i++) {
+            products.get(1L);
+        }
+        products.get(3L);
+
+        CacheStatsResponseDto stats = cacheAdminService.getStats("products", 5);
+
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getHitCount()).isEqualTo(5);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        // Frequency ordering only kicks in once the cache is half full, so just check membership
+        assertThat(stats.getHotKeys()).containsExactlyInAnyOrder("1", "2");
+        assertThat(stats.isWarmable()).isTrue();
+    }
+
+    @Test
+    void evict_matchesLiveKeyFromItsStringForm() {
+        Cache categories = cacheManager.getCache("categories");
+        categories.put(7L, "category");
+        categories.put("active", List.of());
+
+        assertThat(cacheAdminService.evict("categories", "7")).isTrue();
+        assertThat(cacheAdminService.evict("categories", "active")).isTrue();
+        assertThat(categories.get(7L)).isNull();
+        assertThat(categories.get("active")).isNull();
+    }
+
+    @Test
+    void evict_rejectsVersionKeyedProductPages() {
+        Cache productPages = cacheManager.getCache("productPages");
+        productPages.put("v1:0:12", List.of());
+
+        assertThatThrownBy(() -> cacheAdminService.evict("productPages", "v1:0:12"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(productPages.get("v1:0:12")).isNotNull();
+        assertThat(cacheAdminService.getStats("productPages", 5).isEvictable()).isFalse();
+    }
+
+    @Test
+    void warm_loadsThroughServices() {
+        cacheAdminService.warm("products", List.of("4", "5"));
+        cacheAdminService.warm("categories", List.of());
+
+        verify(productService).getProductById(4L);
+        verify(productService).getProductById(5L);
+        verify(categoryService).getAllActiveCategories();
+    }
+
+    @Test
+    void unknownOrUnwarmableCache_isRejected() {
+        assertThatThrownBy(() -> cacheAdminService.getStats("nope", 10))
+                .isInstanceOf(CacheNotFoundException.class);
+        assertThatThrownBy(() -> cacheAdminService.warm("orders", List.of("1")))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(productService);
+    }
+}
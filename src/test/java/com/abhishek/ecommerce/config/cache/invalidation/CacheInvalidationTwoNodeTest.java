@@ -0,0 +1,127 @@
+package com.abhishek.ecommerce.config.cache.invalidation;
+
+import com.abhishek.ecommerce.config.cache.CacheConfig;
+import com.abhishek.ecommerce.config.cache.CacheProperties;
+import com.abhishek.ecommerce.support.H2Contexts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application contexts on the h2 profile sharing one in-memory database,
+ * standing in for two replicas.
+ */
+class CacheInvalidationTwoNodeTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+        // First poll only records the high-water mark
+        nodeA.getBean(CacheInvalidationPoller.class).poll();
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void evictOnOneNode_isAppliedOnTheOther() {
+        Cache productsA = nodeA.getBean(CacheManager.class).getCache("products");
+        Cache productsB = nodeB.getBean(CacheManager.class).getCache("products");
+        productsA.put(1L, "old-price");
+        productsB.put(1L, "old-price");
+        productsB.put(2L, "untouched");
+
+        productsA.evict(1L);
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+
+        assertThat(productsB.get(1L)).isNull();
+        assertThat(productsB.get(2L)).isNotNull();
+        assertThat(nodeB.getBean(MeterRegistry.class).get("cache.invalidation.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ownInvalidations_areNotReapplied() {
+        Cache productsA = nodeA.getBean(CacheManager.class).getCache("products");
+        productsA.evict(1L);
+        productsA.put(1L, "reloaded");
+
+        nodeA.getBean(CacheInvalidationPoller.class).poll();
+
+        assertThat(productsA.get(1L)).isNotNull();
+        assertThat(nodeA.getBean(MeterRegistry.class).get("cache.invalidation.lag").timer().count()).isZero();
+    }
+
+    @Test
+    void clearOnOneNode_clearsTheOther() {
+        Cache categoriesB = nodeB.getBean(CacheManager.class).getCache("categories");
+        categoriesB.put("active", "list");
+
+        nodeA.getBean(CacheManager.class).getCache("categories").clear();
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+
+        assertThat(categoriesB.get("active")).isNull();
+    }
+
+    @Test
+    void undecodableRow_doesNotCostTheBatchItsEvictions() {
+        Cache productsB = nodeB.getBean(CacheManager.class).getCache("products");
+        Cache brandsB = nodeB.getBean(CacheManager.class).getCache("brands");
+        productsB.put(1L, "old-price");
+        brandsB.put(7L, "old-name");
+
+        Cache productsA = nodeA.getBean(CacheManager.class).getCache("products");
+        productsA.evict(1L);
+        CacheInvalidation malformed = new CacheInvalidation();
+        malformed.setCacheName("brands");
+        malformed.setCacheKey("L:not-a-number");
+        malformed.setOriginNode("node-elsewhere");
+        malformed.setCreatedAt(Instant.now());
+        nodeA.getBean(CacheInvalidationRepository.class).save(malformed);
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+
+        assertThat(productsB.get(1L)).isNull();
+        assertThat(brandsB.get(7L)).isNull();
+        assertThat(nodeB.getBean(MeterRegistry.class).get("cache.invalidation.applied").counter().count()).isEqualTo(2);
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        // Both nodes share the schema, so the first one to close must not drop it
+        return H2Contexts.start(NodeConfig.class, "cache-invalidation", "spring.jpa.hibernate.ddl-auto=update");
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = CacheInvalidation.class)
+    @EnableJpaRepositories(basePackageClasses = CacheInvalidationRepository.class)
+    @EnableConfigurationProperties
+    @Import({CacheProperties.class, CacheConfig.class, CacheInvalidationPublisher.class, CacheInvalidationPoller.class})
+    static class NodeConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.abhishek.ecommerce.config.passwordConfig;
+
+import com.abhishek.ecommerce.auth.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void delegatesAndRecordsTimings() {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(), 1, 1, 2, meterRegistry);
+
+        assertThat(encoder.encode("secret")).isEqualTo("{plain}secret");
+        assertThat(encoder.matches("secret", "{plain}secret")).isTrue();
+
+        assertThat(meterRegistry.get("security.password.hash").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.queue.wait").tag("op", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void saturatedPool_rejectsImmediately() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 3, meterRegistry);
+
+        // One hash running, one queued
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitForQueued();
+
+        assertThatThrownBy(() -> encoder.matches("c", "{plain}c"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .extracting(e -> ((PasswordHashingBusyException) e).getRetryAfterSeconds())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("security.password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{plain}a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{plain}b");
+    }
+
+    private void waitForQueued() throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("security.password.queue.size").gauge().value() < 1; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class PlainEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingEncoder extends PlainEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.abhishek.ecommerce.inventory.service;
+
+import com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto;
+import com.abhishek.ecommerce.support.H2Contexts;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flash-sale contention on one inventory row: throughput of the optimistic read-check-save loop
+ * (reduceStock) against the single conditional UPDATE (decrementStock)
+ *
+ * Eight threads decrement the same product. The "failures" counter is the number of calls that
+ * ended in an exception (optimistic locking gave up) although stock was available.
+ *
+ * H2 in memory, so absolute numbers are optimistic; compare the two modes, and rerun against
+ * MySQL (change the datasource properties) before sizing anything.
+ *
+ * Run: mvn test-compile, then start main() from the IDE (test classpath)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class InventoryContentionBenchmark {
+
+    private static final int STOCK = 100_000_000;
+
+    private ConfigurableApplicationContext context;
+    private InventoryService inventoryService;
+    private TransactionTemplate tx;
+    private Long productId;
+    private UpdateStockRequestDto one;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long failures;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            failures = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = H2Contexts.start(InventoryFixtures.Config.class, "inventoryContention",
+                "spring.datasource.hikari.maximum-pool-size=16",
+                "logging.level.root=WARN",
+                "logging.level.com.abhishek=ERROR");
+        inventoryService = context.getBean(InventoryService.class);
+        tx = context.getBean(TransactionTemplate.class);
+        productId = tx.execute(status -> InventoryFixtures.seed(context.getBean(EntityManager.class), "Flash", 1, STOCK)).get(0);
+        one = new UpdateStockRequestDto();
+        one.setQuantity(1);
+    }
+
+    @Setup(Level.Iteration)
+    public void restock() {
+        tx.executeWithoutResult(status -> context.getBean(EntityManager.class)
+                .createQuery("UPDATE Inventory i SET i.quantity = :stock")
+                .setParameter("stock", STOCK)
+                .executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void optimisticLoop(Outcomes outcomes) {
+        try {
+            inventoryService.reduceStock(productId, one);
+        } catch (RuntimeException e) {
+            outcomes.failures++;
+        }
+    }
+
+    @Benchmark
+    public void conditionalUpdate(Outcomes outcomes) {
+        try {
+            inventoryService.decrementStock(productId, 1);
+        } catch (RuntimeException e) {
+            outcomes.failures++;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(InventoryContentionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.abhishek.ecommerce.inventory.service;
+
+import com.abhishek.ecommerce.common.baseEntity.Address;
+import com.abhishek.ecommerce.common.baseEntity.Money;
+import com.abhishek.ecommerce.inventory.entity.Inventory;
+import com.abhishek.ecommerce.inventory.mapper.InventoryMapper;
+import com.abhishek.ecommerce.inventory.repository.InventoryRepository;
+import com.abhishek.ecommerce.inventory.service.impl.InventoryServiceImpl;
+import com.abhishek.ecommerce.product.entity.Brand;
+import com.abhishek.ecommerce.product.entity.Category;
+import com.abhishek.ecommerce.product.entity.Product;
+import com.abhishek.ecommerce.product.repository.ProductRepository;
+import com.abhishek.ecommerce.shared.enums.BrandStatus;
+import com.abhishek.ecommerce.shared.enums.CategoryStatus;
+import com.abhishek.ecommerce.shared.enums.ProductStatus;
+import com.abhishek.ecommerce.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Context and data shared by the H2 inventory test and benchmark
+ */
+final class InventoryFixtures {
+
+    private InventoryFixtures() {
+    }
+
+    /**
+     * One category and brand named after the label, and {@code count} products with {@code stock} each
+     *
+     * @return the product ids in creation order
+     */
+    static List<Long> seed(EntityManager entityManager, String label, int count, int stock) {
+        Category category = new Category();
+        category.setName(label);
+        category.setStatus(CategoryStatus.ACTIVE);
+        entityManager.persist(category);
+
+        Brand brand = new Brand();
+        brand.setName(label);
+        brand.setStatus(BrandStatus.ACTIVE);
+        entityManager.persist(brand);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Product product = new Product();
+            product.setName(label + " " + i);
+            product.setSku(label.toUpperCase() + "-" + i);
+            product.setStatus(ProductStatus.ACTIVE);
+            product.setPrice(new Money(BigDecimal.TEN, "INR"));
+            product.setCategory(category);
+            product.setBrand(brand);
+            entityManager.persist(product);
+
+            Inventory inventory = new Inventory();
+            inventory.setProduct(product);
+            inventory.setQuantity(stock);
+            entityManager.persist(inventory);
+            ids.add(product.getId());
+        }
+        return ids;
+    }
+
+    // Deliberately not @Configuration: the benchmark is not a JUnit class, so the application's component
+    // scan would pick this up in @SpringBootTest contexts and its repository scan would replace the app's
+    @EntityScan(basePackageClasses = {Inventory.class, Product.class, User.class, Address.class})
+    @EnableJpaRepositories(basePackageClasses = InventoryRepository.class)
+    static class Config {
+
+        @Bean
+        InventoryService inventoryService(InventoryRepository inventoryRepository) {
+            return new InventoryServiceImpl(inventoryRepository, Mockito.mock(ProductRepository.class),
+                    Mockito.mock(InventoryMapper.class));
+        }
+    }
+}
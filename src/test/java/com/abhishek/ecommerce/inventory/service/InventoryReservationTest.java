@@ -0,0 +1,84 @@
+package com.abhishek.ecommerce.inventory.service;
+
+import com.abhishek.ecommerce.inventory.exception.InsufficientStockException;
+import com.abhishek.ecommerce.inventory.exception.InsufficientStockException.Shortage;
+import com.abhishek.ecommerce.inventory.repository.InventoryRepository;
+import com.abhishek.ecommerce.support.H2Contexts;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Multi-item reservation against H2: one batch, all or nothing, every short line reported
+ */
+class InventoryReservationTest {
+
+    private static final long MISSING_PRODUCT = 999_999L;
+
+    private static ConfigurableApplicationContext context;
+    private static InventoryService inventoryService;
+    private static InventoryRepository inventoryRepository;
+    private static TransactionTemplate tx;
+    private static List<Long> productIds;
+
+    @BeforeAll
+    static void start() {
+        context = H2Contexts.start(InventoryFixtures.Config.class, "inventoryReservation");
+        inventoryService = context.getBean(InventoryService.class);
+        inventoryRepository = context.getBean(InventoryRepository.class);
+        tx = context.getBean(TransactionTemplate.class);
+        productIds = tx.execute(status -> InventoryFixtures.seed(context.getBean(EntityManager.class), "Reserve", 3, 10));
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    @BeforeEach
+    void restock() {
+        tx.executeWithoutResult(status -> context.getBean(EntityManager.class)
+                .createQuery("UPDATE Inventory i SET i.quantity = 10")
+                .executeUpdate());
+    }
+
+    @Test
+    void reserve_decrementsEveryLine() {
+        inventoryService.reserve(Map.of(productIds.get(2), 10, productIds.get(0), 1, productIds.get(1), 4));
+
+        assertThat(quantities()).containsExactly(9, 6, 0);
+    }
+
+    @Test
+    void reserve_reportsAllShortLinesAndRollsBackTheRest() {
+        InsufficientStockException ex = catchThrowableOfType(() -> inventoryService.reserve(Map.of(
+                        productIds.get(0), 3,
+                        productIds.get(1), 11,
+                        productIds.get(2), 12,
+                        MISSING_PRODUCT, 1)),
+                InsufficientStockException.class);
+
+        assertThat(ex.getShortages()).containsExactly(
+                new Shortage(productIds.get(1), 11, 10),
+                new Shortage(productIds.get(2), 12, 10),
+                new Shortage(MISSING_PRODUCT, 1, 0));
+        // The first line went through inside the batch and was rolled back with it
+        assertThat(quantities()).containsExactly(10, 10, 10);
+    }
+
+    private static List<Integer> quantities() {
+        return productIds.stream()
+                .map(id -> inventoryRepository.findQuantityByProductId(id).orElseThrow())
+                .toList();
+    }
+}
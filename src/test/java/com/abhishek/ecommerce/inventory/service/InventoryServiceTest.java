@@ -19,11 +19,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -233,6 +236,43 @@ class InventoryServiceTest {
         verify(inventoryMapper).toDto(inventory);
     }
 
+    @Test
+    void decrementStock_ShouldUseSingleConditionalUpdate() {
+        // Given
+        when(inventoryRepository.decrementIfAvailable(eq(1L), eq(5), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        inventoryService.decrementStock(1L, 5);
+
+        // Then
+        verify(inventoryRepository, never()).findByProductId(anyLong());
+        verify(inventoryRepository, never()).findQuantityByProductId(anyLong());
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+    }
+
+    @Test
+    void decrementStock_ShouldReportAvailableQuantity_WhenInsufficientStock() {
+        // Given
+        when(inventoryRepository.decrementIfAvailable(eq(1L), eq(15), any(LocalDateTime.class))).thenReturn(0);
+        when(inventoryRepository.findQuantityByProductId(1L)).thenReturn(Optional.of(10));
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.decrementStock(1L, 15))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("requested 15, available 10");
+    }
+
+    @Test
+    void decrementStock_ShouldThrowException_WhenInventoryNotFound() {
+        // Given
+        when(inventoryRepository.decrementIfAvailable(eq(1L), eq(5), any(LocalDateTime.class))).thenReturn(0);
+        when(inventoryRepository.findQuantityByProductId(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.decrementStock(1L, 5))
+                .isInstanceOf(InventoryNotFoundException.class);
+    }
+
     @Test
     void getAvailableStock_ShouldReturnExistingInventory() {
         // Given
@@ -5,7 +5,7 @@ import com.abhishek.ecommerce.cart.entity.CartItem;
 import com.abhishek.ecommerce.cart.repository.CartRepository;
 import com.abhishek.ecommerce.common.baseEntity.Money;
 import com.abhishek.ecommerce.shared.enums.PaymentStatus;
-import com.abhishek.ecommerce.inventory.dto.request.UpdateStockRequestDto;
+import com.abhishek.ecommerce.inventory.exception.InsufficientStockException;
 import com.abhishek.ecommerce.inventory.service.InventoryService;
 import com.abhishek.ecommerce.notification.NotificationService;
 import com.abhishek.ecommerce.order.dto.response.OrderResponseDto;
@@ -17,6 +17,7 @@ import com.abhishek.ecommerce.order.repository.OrderRepository;
 import com.abhishek.ecommerce.order.service.impl.OrderServiceImpl;
 import com.abhishek.ecommerce.payment.service.PaymentService;
 import com.abhishek.ecommerce.product.entity.Product;
+import com.abhishek.ecommerce.common.utils.CurrentUser;
 import com.abhishek.ecommerce.common.utils.SecurityUtils;
 import com.abhishek.ecommerce.shared.enums.Role;
 import com.abhishek.ecommerce.user.entity.User;
@@ -32,12 +33,15 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -123,7 +127,6 @@ class OrderServiceTest {
         when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(cart));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
         when(orderMapper.toDto(order)).thenReturn(orderResponseDto);
-        when(inventoryService.reduceStock(anyLong(), any(UpdateStockRequestDto.class))).thenReturn(null);
 
         // When
         OrderResponseDto result = orderService.placeOrder(1L);
@@ -135,11 +138,28 @@ class OrderServiceTest {
 
         verify(userRepository).findById(1L);
         verify(cartRepository).findByUserId(1L);
-        verify(inventoryService).reduceStock(anyLong(), any(UpdateStockRequestDto.class));
+        verify(inventoryService).reserve(Map.of(1L, 2));
         verify(orderRepository).save(any(Order.class));
         verify(orderMapper).toDto(order);
     }
 
+    @Test
+    void placeOrder_ShouldNotSaveOrder_WhenAnyLineIsShort() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(cartRepository.findByUserId(1L)).thenReturn(Optional.of(cart));
+        doThrow(new InsufficientStockException(List.of(new InsufficientStockException.Shortage(1L, 2, 1))))
+                .when(inventoryService).reserve(anyMap());
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.placeOrder(1L))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("requested 2, available 1");
+
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(paymentService, never()).createPayment(any());
+    }
+
     @Test
     void placeOrder_ShouldThrowException_WhenCartIsEmpty() {
         // Given
@@ -160,8 +180,8 @@ class OrderServiceTest {
     @Test
     void getOrderById_ShouldReturnOrder() {
         // Given
-        when(securityUtils.getCurrentUsername()).thenReturn("john.doe@example.com");
-        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(user));
+        when(securityUtils.getCurrentUser()).thenReturn(
+                new CurrentUser(user.getId(), user.getEmail(), user.getRoles(), user.getSellerStatus()));
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
         when(orderMapper.toDto(order)).thenReturn(orderResponseDto);
 
@@ -172,8 +192,8 @@ class OrderServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
 
-        verify(securityUtils).getCurrentUsername();
-        verify(userRepository).findByEmail("john.doe@example.com");
+        verify(securityUtils).getCurrentUser();
+        verify(userRepository, never()).findByEmail(anyString());
         verify(orderRepository).findById(1L);
         verify(orderMapper).toDto(order);
     }
@@ -0,0 +1,107 @@
+package com.abhishek.ecommerce.product.cache;
+
+import com.abhishek.ecommerce.config.cache.invalidation.CacheInvalidationPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogVersionsTest {
+
+    private CatalogVersions catalogVersions;
+    private CacheInvalidationPublisher publisher;
+    private final Pageable pageable = PageRequest.of(0, 12, Sort.by("createdAt").descending());
+
+    @BeforeEach
+    void setUp() {
+        publisher = mock(CacheInvalidationPublisher.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<CacheInvalidationPublisher> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(publisher);
+        catalogVersions = new CatalogVersions(provider);
+    }
+
+    @Test
+    void productChanged_onlyInvalidatesItsCategoryAndBrand() {
+        String category1 = catalogVersions.categoryKey(1L, pageable);
+        String category2 = catalogVersions.categoryKey(2L, pageable);
+        String brand1 = catalogVersions.brandKey(1L, pageable);
+        String brand2 = catalogVersions.brandKey(2L, pageable);
+        String active = catalogVersions.activeKey(pageable);
+
+        catalogVersions.productChanged(1L, 1L);
+
+        assertThat(catalogVersions.categoryKey(1L, pageable)).isNotEqualTo(category1);
+        assertThat(catalogVersions.brandKey(1L, pageable)).isNotEqualTo(brand1);
+        assertThat(catalogVersions.activeKey(pageable)).isNotEqualTo(active);
+        assertThat(catalogVersions.categoryKey(2L, pageable)).isEqualTo(category2);
+        assertThat(catalogVersions.brandKey(2L, pageable)).isEqualTo(brand2);
+        verify(publisher).publish(CatalogVersions.CACHE_NAME, "global,category:1,brand:1");
+    }
+
+    @Test
+    void categoryChanged_alsoInvalidatesBrandListingsThatEmbedIt() {
+        String brand1 = catalogVersions.brandKey(1L, pageable);
+        String categoryAndBrand = catalogVersions.categoryAndBrandKey(2L, 1L, pageable);
+        String otherCategory = catalogVersions.categoryKey(2L, pageable);
+
+        catalogVersions.categoryChanged(1L);
+
+        assertThat(catalogVersions.brandKey(1L, pageable)).isNotEqualTo(brand1);
+        assertThat(catalogVersions.categoryAndBrandKey(2L, 1L, pageable)).isNotEqualTo(categoryAndBrand);
+        assertThat(catalogVersions.categoryKey(2L, pageable)).isNotEqualTo(otherCategory);
+        verify(publisher).publish(CatalogVersions.CACHE_NAME, "reference,global,category:1");
+    }
+
+    @Test
+    void brandChanged_onRemoteReplica_invalidatesCategoryListings() {
+        String category1 = catalogVersions.categoryKey(1L, pageable);
+
+        catalogVersions.onRemoteInvalidation(CatalogVersions.CACHE_NAME, "reference,global,brand:3");
+
+        assertThat(catalogVersions.categoryKey(1L, pageable)).isNotEqualTo(category1);
+    }
+
+    @Test
+    void remoteInvalidation_bumpsOnlyListedScopes() {
+        String category1 = catalogVersions.categoryKey(1L, pageable);
+        String category2 = catalogVersions.categoryKey(2L, pageable);
+
+        catalogVersions.onRemoteInvalidation(CatalogVersions.CACHE_NAME, "global,category:1");
+
+        assertThat(catalogVersions.categoryKey(1L, pageable)).isNotEqualTo(category1);
+        assertThat(catalogVersions.categoryKey(2L, pageable)).isEqualTo(category2);
+    }
+
+    @Test
+    void keys_distinguishPageAndSort() {
+        assertThat(catalogVersions.activeKey(PageRequest.of(1, 12)))
+                .isNotEqualTo(catalogVersions.activeKey(PageRequest.of(0, 12)))
+                .isNotEqualTo(catalogVersions.activeKey(PageRequest.of(1, 12, Sort.by("name"))));
+    }
+
+    @Test
+    void productChanged_insideTransaction_waitsForCommit() {
+        String before = catalogVersions.categoryKey(1L, pageable);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalogVersions.productChanged(1L, 1L);
+            assertThat(catalogVersions.categoryKey(1L, pageable)).isEqualTo(before);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(catalogVersions.categoryKey(1L, pageable)).isNotEqualTo(before);
+    }
+}
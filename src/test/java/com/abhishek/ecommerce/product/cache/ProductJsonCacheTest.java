@@ -0,0 +1,74 @@
+package com.abhishek.ecommerce.product.cache;
+
+import com.abhishek.ecommerce.common.apiResponse.ApiResponse;
+import com.abhishek.ecommerce.common.apiResponse.ApiResponseBuilder;
+import com.abhishek.ecommerce.product.dto.response.ProductResponseDto;
+import com.abhishek.ecommerce.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductJsonCacheTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private ProductService productService;
+    private ProductJsonCache productJsonCache;
+
+    @BeforeEach
+    void setUp() {
+        productService = mock(ProductService.class);
+        productJsonCache = new ProductJsonCache(productService, objectMapper,
+                new ConcurrentMapCacheManager(ProductJsonCache.CACHE_NAME));
+    }
+
+    @Test
+    void writeTo_producesSameJsonAsRegularSerialization() throws Exception {
+        ProductResponseDto product = product();
+        LocalDateTime timestamp = LocalDateTime.of(2024, 5, 1, 10, 0, 30);
+        ApiResponse<ProductResponseDto> expected = ApiResponseBuilder.success(ProductJsonCache.FETCHED_MESSAGE, product);
+        expected.setTimestamp(timestamp.toString());
+
+        ProductJsonCache.ProductJson json = productJsonCache.render(product);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.writeTo(out, timestamp);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(expected));
+        assertThat(json.contentLength(timestamp)).isEqualTo(out.size());
+        assertThat(json.etag()).isNotNull();
+    }
+
+    @Test
+    void get_serializesOncePerProduct() {
+        when(productService.getProductById(1L)).thenReturn(product());
+
+        ProductJsonCache.ProductJson first = productJsonCache.get(1L);
+        ProductJsonCache.ProductJson second = productJsonCache.get(1L);
+
+        assertThat(second).isSameAs(first);
+        verify(productService, times(1)).getProductById(1L);
+    }
+
+    private static ProductResponseDto product() {
+        ProductResponseDto dto = new ProductResponseDto();
+        dto.setId(1L);
+        dto.setName("Phone \"X\" – 128GB");
+        dto.setPriceAmount(new BigDecimal("99.99"));
+        dto.setCurrency("USD");
+        dto.setCategoryName("Electronics");
+        dto.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 9, 0));
+        return dto;
+    }
+}
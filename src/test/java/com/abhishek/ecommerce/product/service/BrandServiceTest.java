@@ -1,5 +1,6 @@
 package com.abhishek.ecommerce.product.service;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
 import com.abhishek.ecommerce.product.dto.request.BrandCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.BrandUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.BrandResponseDto;
@@ -10,6 +11,7 @@ import com.abhishek.ecommerce.product.exception.BrandNotFoundException;
 import com.abhishek.ecommerce.product.mapper.BrandMapper;
 import com.abhishek.ecommerce.product.repository.BrandRepository;
 import com.abhishek.ecommerce.product.service.impl.BrandServiceImpl;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +36,12 @@ class BrandServiceTest {
     @Mock
     private BrandMapper brandMapper;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private BrandServiceImpl brandService;
 
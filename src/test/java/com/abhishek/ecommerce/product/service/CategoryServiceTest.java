@@ -1,5 +1,6 @@
 package com.abhishek.ecommerce.product.service;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
 import com.abhishek.ecommerce.product.dto.request.CategoryCreateRequestDto;
 import com.abhishek.ecommerce.product.dto.request.CategoryUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.CategoryResponseDto;
@@ -10,6 +11,7 @@ import com.abhishek.ecommerce.product.exception.CategoryNotFoundException;
 import com.abhishek.ecommerce.product.mapper.CategoryMapper;
 import com.abhishek.ecommerce.product.repository.CategoryRepository;
 import com.abhishek.ecommerce.product.service.impl.CategoryServiceImpl;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +37,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -1,5 +1,6 @@
 package com.abhishek.ecommerce.product.service;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
 import com.abhishek.ecommerce.shared.enums.BrandStatus;
 import com.abhishek.ecommerce.shared.enums.CategoryStatus;
 import com.abhishek.ecommerce.shared.enums.ProductStatus;
@@ -12,6 +13,7 @@ import com.abhishek.ecommerce.product.dto.request.ProductUpdateRequestDto;
 import com.abhishek.ecommerce.product.dto.response.ProductResponseDto;
 import com.abhishek.ecommerce.product.entity.*;
 import com.abhishek.ecommerce.product.exception.ProductNotFoundException;
+import com.abhishek.ecommerce.product.cache.CatalogVersions;
 import com.abhishek.ecommerce.product.mapper.ProductMapper;
 import com.abhishek.ecommerce.product.repository.BrandRepository;
 import com.abhishek.ecommerce.product.repository.CategoryRepository;
@@ -51,6 +53,12 @@ class ProductServiceTest {
     @Mock
     private InventoryService inventoryService;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -164,6 +172,30 @@ class ProductServiceTest {
         verify(productRepository).findById(1L);
     }
 
+    @Test
+    void getProductById_ShouldRecordMissWhenNotFound() {
+        // Given
+        when(productRepository.findById(404L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getProductById(404L))
+                .isInstanceOf(ProductNotFoundException.class);
+
+        verify(negativeLookupCache).recordMissing(NegativeLookupCache.PRODUCT_MISSES, 404L);
+    }
+
+    @Test
+    void getProductById_ShouldSkipDatabaseForKnownMiss() {
+        // Given
+        when(negativeLookupCache.isKnownMissing(NegativeLookupCache.PRODUCT_MISSES, 404L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getProductById(404L))
+                .isInstanceOf(ProductNotFoundException.class);
+
+        verify(productRepository, never()).findById(404L);
+    }
+
     @Test
     void getAllProducts_ShouldReturnAllProducts() {
         // Given
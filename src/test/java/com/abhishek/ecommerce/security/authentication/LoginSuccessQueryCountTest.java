@@ -0,0 +1,200 @@
+package com.abhishek.ecommerce.security.authentication;
+
+import com.abhishek.ecommerce.auth.entity.RefreshToken;
+import com.abhishek.ecommerce.auth.repository.RefreshTokenRepository;
+import com.abhishek.ecommerce.auth.service.impl.RefreshTokenServiceImpl;
+import com.abhishek.ecommerce.common.baseEntity.Address;
+import com.abhishek.ecommerce.common.utils.SecurityUtils;
+import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.notification.NotificationService;
+import com.abhishek.ecommerce.security.authorization.RoleVersions;
+import com.abhishek.ecommerce.security.events.SecurityEventLogger;
+import com.abhishek.ecommerce.security.jwt.JwtUtil;
+import com.abhishek.ecommerce.security.jwt.SecurityVersions;
+import com.abhishek.ecommerce.security.oauth2.OAuth2SuccessHandler;
+import com.abhishek.ecommerce.security.userDetails.CustomUserDetails;
+import com.abhishek.ecommerce.security.userDetails.CustomUserDetailsService;
+import com.abhishek.ecommerce.shared.enums.AuthProvider;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import com.abhishek.ecommerce.shared.enums.UserStatus;
+import com.abhishek.ecommerce.support.H2Contexts;
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.mapper.UserMapper;
+import com.abhishek.ecommerce.user.repository.SellerApplicationRepository;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import com.abhishek.ecommerce.user.service.UserService;
+import com.abhishek.ecommerce.user.service.impl.UserServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements of the form and OAuth2 login success paths; the user is loaded once
+ * (users + user_roles) and never re-read by the handlers.
+ */
+class LoginSuccessQueryCountTest {
+
+    private static ConfigurableApplicationContext context;
+    private static Statistics statistics;
+    private static UserRepository users;
+    private static RefreshTokenRepository refreshTokens;
+
+    @BeforeAll
+    static void start() {
+        context = H2Contexts.start(LoginConfig.class, "loginSuccess",
+                "spring.jpa.properties.hibernate.generate_statistics=true");
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        users = context.getBean(UserRepository.class);
+        refreshTokens = context.getBean(RefreshTokenRepository.class);
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @AfterEach
+    void clean() {
+        SecurityContextHolder.clearContext();
+        refreshTokens.deleteAllInBatch();
+        users.deleteAll();
+    }
+
+    @Test
+    void formLogin_handlerReusesAuthenticatedUser() throws Exception {
+        users.save(user("seller@test.com", Set.of(Role.ROLE_USER, Role.ROLE_SELLER), SellerStatus.APPROVED));
+        statistics.clear();
+
+        // What DaoAuthenticationProvider does before the success handler runs
+        CustomUserDetails principal = (CustomUserDetails) context.getBean(CustomUserDetailsService.class)
+                .loadUserByUsername("seller@test.com");
+        long authentication = statistics.getPrepareStatementCount();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        context.getBean(FormLoginSuccessHandler.class).onAuthenticationSuccess(new MockHttpServletRequest(), response,
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // Previously three more loads of the same user (six statements)
+        assertThat(authentication).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(response.getRedirectedUrl()).isEqualTo("/seller/dashboard");
+        assertThat(response.getCookie("access_token")).isNotNull();
+    }
+
+    @Test
+    void oauth2Login_existingUser_loadsUserOnceAndInsertsRefreshToken() throws Exception {
+        users.save(user("admin@test.com", Set.of(Role.ROLE_ADMIN), SellerStatus.NOT_A_SELLER));
+        statistics.clear();
+
+        MockHttpServletResponse response = oauth2Login("admin@test.com");
+
+        // findByEmail (users + user_roles) and the refresh token insert; previously a second findByEmail
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(response.getRedirectedUrl()).isEqualTo("/admin/dashboard");
+        assertThat(response.getCookie("refresh_token")).isNotNull();
+    }
+
+    @Test
+    void oauth2Login_newUser_createsItWithoutReadingItBack() throws Exception {
+        MockHttpServletResponse response = oauth2Login("new@test.com");
+
+        // Lookup miss, users + user_roles inserts, refresh token insert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(response.getRedirectedUrl()).isEqualTo("/");
+        assertThat(users.findByEmail("new@test.com")).isPresent();
+    }
+
+    private static MockHttpServletResponse oauth2Login(String email) throws Exception {
+        DefaultOAuth2User oauth2User = new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("OAUTH2_USER")),
+                Map.of("email", email, "name", "OAuth User"), "email");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        context.getBean(OAuth2SuccessHandler.class).onAuthenticationSuccess(new MockHttpServletRequest(), response,
+                new OAuth2AuthenticationToken(oauth2User, oauth2User.getAuthorities(), "google"));
+        return response;
+    }
+
+    private static User user(String email, Set<Role> roles, SellerStatus sellerStatus) {
+        User user = new User();
+        user.setEmail(email);
+        user.setStatus(UserStatus.ACTIVE);
+        user.setProvider(AuthProvider.LOCAL);
+        user.setRoles(roles);
+        user.setSellerStatus(sellerStatus);
+        return user;
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = {User.class, Address.class, RefreshToken.class})
+    @EnableJpaRepositories(basePackageClasses = {UserRepository.class, RefreshTokenRepository.class})
+    @Import({FormLoginSuccessHandler.class, OAuth2SuccessHandler.class, CustomUserDetailsService.class,
+            RefreshTokenServiceImpl.class})
+    static class LoginConfig {
+
+        @Bean
+        UserService userService(UserRepository userRepository, NegativeLookupCache negativeLookupCache) {
+            return new UserServiceImpl(userRepository, Mockito.mock(UserMapper.class),
+                    Mockito.mock(PasswordEncoder.class), Mockito.mock(NotificationService.class),
+                    Mockito.mock(SecurityUtils.class), Mockito.mock(SellerApplicationRepository.class),
+                    negativeLookupCache, Mockito.mock(SecurityVersions.class), Mockito.mock(RoleVersions.class));
+        }
+
+        @Bean
+        NegativeLookupCache negativeLookupCache() {
+            return Mockito.mock(NegativeLookupCache.class);
+        }
+
+        @Bean
+        JwtProperties jwtProperties() {
+            JwtProperties properties = new JwtProperties();
+            properties.setAccessSecret("login-success-test-access-secret-at-least-32-bytes");
+            properties.setRefreshSecret("login-success-test-refresh-secret-at-least-32-bytes");
+            properties.setAccessTokenExpiration(TimeUnit.MINUTES.toMillis(15));
+            properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+            return properties;
+        }
+
+        @Bean
+        JwtUtil jwtUtil(JwtProperties jwtProperties) {
+            return new JwtUtil(jwtProperties);
+        }
+
+        @Bean
+        SecurityEventLogger securityEventLogger() {
+            return Mockito.mock(SecurityEventLogger.class);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.abhishek.ecommerce.security.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRingBufferTest {
+
+    @Test
+    void fullBuffer_rejectsUntilConsumerFreesSlots() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isTrue();
+        buffer.drain(drained::add, 10);
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void concurrentProducers_everyAcceptedEventIsDeliveredInProducerOrder() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        EventRingBuffer<long[]> buffer = new EventRingBuffer<>(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] accepted = new long[producers];
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(new long[]{producer, i})) {
+                        accepted[producer]++;
+                    }
+                }
+                return null;
+            });
+        }
+
+        // The test thread is the single consumer
+        Map<Long, Long> lastSeen = new HashMap<>();
+        long[] received = new long[producers];
+        start.countDown();
+        pool.shutdown();
+        while (!pool.isTerminated() || buffer.size() > 0) {
+            buffer.drain(event -> {
+                Long previous = lastSeen.put(event[0], event[1]);
+                assertThat(previous == null || previous < event[1]).isTrue();
+                received[(int) event[0]]++;
+            }, 256);
+        }
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        buffer.drain(event -> received[(int) event[0]]++, Integer.MAX_VALUE);
+
+        assertThat(received).containsExactly(accepted);
+    }
+}
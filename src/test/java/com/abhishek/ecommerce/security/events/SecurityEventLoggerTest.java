@@ -0,0 +1,83 @@
+package com.abhishek.ecommerce.security.events;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.abhishek.ecommerce.config.appProperties.SecurityEventProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityEventLoggerTest {
+
+    @Test
+    void fullBuffer_dropsAndCountsWithoutBlocking() throws Exception {
+        SecurityEventProperties properties = new SecurityEventProperties();
+        properties.setBufferSize(8);
+        properties.setIdleWait(Duration.ofMillis(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SecurityEventLogger logger = new SecurityEventLogger(properties, registry);
+
+        // Drain thread not started yet: the ninth event onwards has nowhere to go
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        for (int i = 0; i < 20; i++) {
+            logger.logTokenValidationFailure("token", "Invalid token", request);
+        }
+        assertThat(registry.get("security.events.dropped").counter().count()).isEqualTo(12);
+        assertThat(registry.get("security.events.buffer.size").gauge().value()).isEqualTo(8);
+
+        logger.afterPropertiesSet();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.get("security.events.buffer.size").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        logger.logLoginFailure("buyer@test.com", "10.0.0.1", "Invalid credentials");
+        logger.destroy();
+
+        assertThat(registry.get("security.events.written").counter().count()).isEqualTo(9);
+        assertThat(registry.get("security.events.buffer.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void batch_isWrittenAsOneLogEventPerSecurityEvent() throws Exception {
+        SecurityEventProperties properties = new SecurityEventProperties();
+        SecurityEventLogger logger = new SecurityEventLogger(properties, new SimpleMeterRegistry());
+        Logger events = (Logger) LoggerFactory.getLogger("SECURITY");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        events.addAppender(appender);
+
+        try {
+            // Queued before the drain thread starts, so they are taken off the buffer as one batch
+            logger.logLoginSuccess("buyer@test.com", "10.0.0.1");
+            logger.logLoginFailure("buyer@test.com", "10.0.0.1", "Invalid credentials");
+            logger.logPasswordChange("buyer@test.com", "10.0.0.1");
+            logger.afterPropertiesSet();
+            logger.destroy();
+        } finally {
+            events.detachAppender(appender);
+        }
+
+        assertThat(appender.list).extracting(e -> e.getLevel().toString())
+                .containsExactly("WARN", "WARN", "INFO");
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .allSatisfy(message -> assertThat(message).doesNotContain("\n"));
+    }
+
+    @Test
+    void format_writesOneQuotedLinePerEvent() {
+        SecurityEvent event = new SecurityEvent(0, SecurityEvent.Type.LOGIN_FAILURE, "buyer@test.com", "10.0.0.1",
+                null, null, "bad \"password\"\nevent=FORGED");
+        StringBuilder line = new StringBuilder();
+
+        SecurityEventLogger.format(event, line);
+
+        assertThat(line.toString()).isEqualTo("1970-01-01T00:00:00Z event=LOGIN_FAILURE user=\"buyer@test.com\""
+                + " ip=\"10.0.0.1\" detail=\"bad \\\"password\\\"\\nevent=FORGED\"");
+    }
+}
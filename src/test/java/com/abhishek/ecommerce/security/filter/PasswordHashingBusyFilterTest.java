@@ -0,0 +1,37 @@
+package com.abhishek.ecommerce.security.filter;
+
+import com.abhishek.ecommerce.auth.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingBusyFilterTest {
+
+    private final PasswordHashingBusyFilter filter = new PasswordHashingBusyFilter();
+
+    @Test
+    void busyDuringFormLogin_answers503WithRetryAfter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            throw new PasswordHashingBusyException(2);
+        });
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getErrorMessage()).contains("retry shortly");
+    }
+
+    @Test
+    void otherRequests_passThroughUntouched() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), response, (req, res) -> { });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Retry-After")).isNull();
+    }
+}
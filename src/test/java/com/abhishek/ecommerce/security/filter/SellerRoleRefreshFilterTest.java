@@ -0,0 +1,143 @@
+package com.abhishek.ecommerce.security.filter;
+
+import com.abhishek.ecommerce.common.utils.SecurityUtils;
+import com.abhishek.ecommerce.security.authorization.RoleVersions;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SellerRoleRefreshFilterTest {
+
+    private static final Long USER_ID = 4L;
+    private static final String EMAIL = "seller@test.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    private RoleVersions roleVersions;
+    private SellerRoleRefreshFilter filter;
+    private MockHttpSession session;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        roleVersions = new RoleVersions(userRepository, new CaffeineCacheManager(RoleVersions.CACHE_NAME));
+        filter = new SellerRoleRefreshFilter(userRepository, securityUtils, roleVersions);
+        session = new MockHttpSession();
+
+        user = new User();
+        user.setId(USER_ID);
+        user.setEmail(EMAIL);
+        user.setRoles(new HashSet<>(Set.of(Role.ROLE_USER, Role.ROLE_SELLER)));
+        user.setRoleVersion(0);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void steadyState_makesNoQueries() throws Exception {
+        login("ROLE_USER", "ROLE_SELLER");
+        when(securityUtils.getCurrentUserId()).thenReturn(USER_ID);
+        when(userRepository.findRoleVersionById(USER_ID)).thenReturn(Optional.of(0));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        // First seller page of the session: one-time check, then stamped
+        filter("/seller/dashboard");
+        for (int i = 0; i < 5; i++) {
+            filter("/seller/products");
+        }
+
+        verify(userRepository, times(1)).findById(USER_ID);
+        verify(userRepository, times(1)).findRoleVersionById(USER_ID);
+        verify(securityUtils, times(1)).getCurrentUserId();
+        verify(securityUtils, never()).refreshUserPrincipal(anyLong());
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void approval_refreshesSessionOnNextSellerPage() throws Exception {
+        login("ROLE_USER");
+        user.getRoles().remove(Role.ROLE_SELLER);
+        when(securityUtils.getCurrentUserId()).thenReturn(USER_ID);
+        when(userRepository.findRoleVersionById(USER_ID)).thenReturn(Optional.of(0));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        filter("/seller/dashboard");
+
+        // Admin approves: ROLE_SELLER added and role version bumped
+        user.getRoles().add(Role.ROLE_SELLER);
+        roleVersions.bump(user);
+        when(userRepository.findRoleVersionById(USER_ID)).thenReturn(Optional.of(1));
+        doAnswer(invocation -> login("ROLE_USER", "ROLE_SELLER")).when(securityUtils).refreshUserPrincipal(USER_ID);
+
+        Authentication afterApproval = filter("/seller/dashboard");
+
+        assertThat(afterApproval.getAuthorities()).extracting(Object::toString).contains("ROLE_SELLER");
+        assertThat(session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY)).isNotNull();
+        verify(securityUtils, times(1)).refreshUserPrincipal(USER_ID);
+
+        // Stamped at the new version: no further refreshes
+        filter("/seller/dashboard");
+        verify(securityUtils, times(1)).refreshUserPrincipal(USER_ID);
+    }
+
+    @Test
+    void nonSellerPaths_areIgnored() throws Exception {
+        login("ROLE_USER");
+
+        filter("/seller/apply");
+        filter("/orders");
+
+        verifyNoMoreInteractions(userRepository, securityUtils);
+    }
+
+    private Authentication filter(String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setSession(session);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static Authentication login(String... roles) {
+        Authentication auth = new UsernamePasswordAuthenticationToken(EMAIL, null,
+                List.of(roles).stream().map(SimpleGrantedAuthority::new).toList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        return auth;
+    }
+}
@@ -0,0 +1,182 @@
+package com.abhishek.ecommerce.security.jwt;
+
+import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.security.events.SecurityEventLogger;
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.shared.enums.SellerStatus;
+import com.abhishek.ecommerce.user.entity.User;
+import com.abhishek.ecommerce.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-access-token-generation-0001";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private SecurityEventLogger securityEventLogger;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtUtil jwtUtil;
+    private SecurityVersions securityVersions;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessSecret(SECRET);
+        properties.setRefreshSecret(SECRET);
+        properties.setAccessTokenExpiration(900_000);
+        properties.setRefreshTokenExpiration(604_800_000);
+        jwtUtil = spy(new JwtUtil(properties));
+        verifiedTokenCache = new VerifiedTokenCache(properties, new SimpleMeterRegistry());
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(SecurityVersions.CACHE_NAME);
+        securityVersions = new SecurityVersions(userRepository, cacheManager);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, securityEventLogger, securityVersions,
+                verifiedTokenCache);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validToken_buildsPrincipalFromClaimsWithoutLoadingUser() throws Exception {
+        when(userRepository.findSecurityVersionById(5L)).thenReturn(Optional.of(2));
+        String token = jwtUtil.generateToken(user(5L, 2));
+
+        Authentication first = filter(token);
+        Authentication second = filter(token);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        JwtUserPrincipal principal = (JwtUserPrincipal) second.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(5L);
+        assertThat(principal.getUsername()).isEqualTo("seller@test.com");
+        assertThat(principal.getSellerStatus()).isEqualTo(SellerStatus.APPROVED);
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_SELLER", "ROLE_USER");
+        // Version loaded once, then served from memory; the user row is never read
+        verify(userRepository, times(1)).findSecurityVersionById(5L);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void tokenOlderThanKnownVersion_isRejectedWithoutDatabaseRead() throws Exception {
+        when(userRepository.findSecurityVersionById(5L)).thenReturn(Optional.of(2));
+        filter(jwtUtil.generateToken(user(5L, 2)));
+
+        Authentication stale = filter(jwtUtil.generateToken(user(5L, 1)));
+
+        assertThat(stale).isNull();
+        verify(userRepository, times(1)).findSecurityVersionById(5L);
+        verify(securityEventLogger).logTokenValidationFailure(anyString(), eq("Token revoked"), any());
+    }
+
+    @Test
+    void tokenAfterBump_isAcceptedOnceTheNewVersionIsRead() throws Exception {
+        User user = user(5L, 2);
+        when(userRepository.findSecurityVersionById(5L)).thenReturn(Optional.of(2));
+        String before = jwtUtil.generateToken(user);
+        filter(before);
+
+        securityVersions.bump(user);
+        when(userRepository.findSecurityVersionById(5L)).thenReturn(Optional.of(3));
+
+        assertThat(filter(before)).isNull();
+        assertThat(filter(jwtUtil.generateToken(user))).isNotNull();
+        verify(userRepository, times(2)).findSecurityVersionById(5L);
+    }
+
+    @Test
+    void repeatedToken_isVerifiedOnceThenServedFromCache() throws Exception {
+        when(userRepository.findSecurityVersionById(5L)).thenReturn(Optional.of(2));
+        String token = jwtUtil.generateToken(user(5L, 2));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(filter(token)).isNotNull();
+        }
+
+        verify(jwtUtil, times(1)).parseClaims(token);
+        assertThat(verifiedTokenCache.hitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void cachedToken_isRejectedAfterBumpOrDroppedOnPasswordChange() throws Exception {
+        User user = user(5L, 2);
+        when(userRepository.findSecurityVersionById(5L)).thenReturn(Optional.of(2));
+        String token = jwtUtil.generateToken(user);
+        filter(token);
+
+        securityVersions.bump(user);
+        when(userRepository.findSecurityVersionById(5L)).thenReturn(Optional.of(3));
+        assertThat(filter(token)).isNull();
+
+        String fresh = jwtUtil.generateToken(user);
+        filter(fresh);
+        verifiedTokenCache.invalidateUser(5L);
+        assertThat(verifiedTokenCache.get(fresh)).isNull();
+    }
+
+    @Test
+    void refreshToken_isNotAcceptedAsBearerToken() throws Exception {
+        Authentication auth = filter(jwtUtil.generateRefreshToken("seller@test.com"));
+
+        assertThat(auth).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static User user(Long id, int securityVersion) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("seller@test.com");
+        user.setRoles(Set.of(Role.ROLE_USER, Role.ROLE_SELLER));
+        user.setSellerStatus(SellerStatus.APPROVED);
+        user.setSecurityVersion(securityVersion);
+        return user;
+    }
+}
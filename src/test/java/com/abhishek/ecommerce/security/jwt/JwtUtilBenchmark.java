@@ -0,0 +1,84 @@
+package com.abhishek.ecommerce.security.jwt;
+
+import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost in JwtAuthenticationFilter, before and after single-parse verification
+ *
+ * before: validateToken + getUsernameFromToken, each rebuilding the HMAC key and the parser
+ * after:  one JwtUtil.parseClaims with the precomputed key and parser
+ *
+ * Run: mvn test-compile, then start main() from the IDE (test classpath)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-access-token-generation";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessSecret(SECRET);
+        properties.setRefreshSecret(SECRET);
+        properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(1));
+        jwtUtil = new JwtUtil(properties);
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        user.setRoles(Set.of(Role.ROLE_USER));
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String before() {
+        // Previous filter path: two full parses, key and parser rebuilt each time
+        Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String after() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return claims.getSubject();
+    }
+
+    private static Key legacyKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtUtilBenchmark.class.getSimpleName()).build()).run();
+    }
+}
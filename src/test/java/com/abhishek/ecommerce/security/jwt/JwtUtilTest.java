@@ -0,0 +1,76 @@
+package com.abhishek.ecommerce.security.jwt;
+
+import com.abhishek.ecommerce.config.appProperties.JwtProperties;
+import com.abhishek.ecommerce.shared.enums.Role;
+import com.abhishek.ecommerce.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String OLD_SECRET = "old-secret-key-for-jwt-access-token-generation-0001";
+    private static final String NEW_SECRET = "new-secret-key-for-jwt-access-token-generation-0002";
+
+    @Test
+    void parseClaims_returnsSubjectAndRolesInOneParse() {
+        JwtUtil jwtUtil = new JwtUtil(properties("k1", OLD_SECRET, Map.of()));
+
+        Claims claims = jwtUtil.parseClaims(jwtUtil.generateToken(user("user@test.com", Role.ROLE_USER)));
+
+        assertThat(claims.getSubject()).isEqualTo("user@test.com");
+        assertThat(claims.get("roles", List.class)).containsExactly("ROLE_USER");
+        assertThat(claims.get(JwtUtil.CLAIM_USER_ID, Long.class)).isEqualTo(7L);
+        assertThat(claims.get(JwtUtil.CLAIM_SECURITY_VERSION, Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void rotatedKey_stillVerifiesTokensSignedWithPreviousKid() {
+        String oldToken = new JwtUtil(properties("k1", OLD_SECRET, Map.of()))
+                .generateToken(user("user@test.com", Role.ROLE_USER));
+
+        JwtUtil rotated = new JwtUtil(properties("k2", NEW_SECRET, Map.of("k1", OLD_SECRET)));
+
+        assertThat(rotated.getUsernameFromToken(oldToken)).isEqualTo("user@test.com");
+        assertThat(rotated.validateToken(rotated.generateToken(user("new@test.com")))).isTrue();
+    }
+
+    @Test
+    void retiredOrTamperedTokens_areRejected() {
+        String oldToken = new JwtUtil(properties("k1", OLD_SECRET, Map.of()))
+                .generateToken(user("user@test.com", Role.ROLE_USER));
+        JwtUtil retired = new JwtUtil(properties("k2", NEW_SECRET, Map.of()));
+
+        assertThat(retired.validateToken(oldToken)).isFalse();
+        assertThat(retired.validateToken(oldToken.substring(0, oldToken.length() - 2) + "xx")).isFalse();
+        assertThat(retired.validateToken("not-a-jwt")).isFalse();
+        assertThatThrownBy(() -> retired.parseClaims(oldToken)).isInstanceOf(JwtException.class);
+    }
+
+    private static User user(String email, Role... roles) {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail(email);
+        user.setRoles(Set.of(roles));
+        user.setSecurityVersion(3);
+        return user;
+    }
+
+    private static JwtProperties properties(String keyId, String secret, Map<String, String> previous) {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessKeyId(keyId);
+        properties.setAccessSecret(secret);
+        properties.setRefreshSecret(secret);
+        properties.setAccessTokenExpiration(900_000);
+        properties.setRefreshTokenExpiration(604_800_000);
+        properties.setPreviousAccessSecrets(previous);
+        return properties;
+    }
+}
@@ -0,0 +1,127 @@
+package com.abhishek.ecommerce.security.rateLimit;
+
+import com.abhishek.ecommerce.bootstrap.WarmupRequests;
+import com.abhishek.ecommerce.config.appProperties.RateLimitProperties;
+import com.abhishek.ecommerce.config.appProperties.RateLimitProperties.KeyType;
+import com.abhishek.ecommerce.config.appProperties.RateLimitProperties.Policy;
+import com.abhishek.ecommerce.security.userDetails.JwtUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WarmupRequests warmupRequests;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(true);
+        properties.getPolicies().put("auth", policy(KeyType.IP, 3, List.of("/api/v1/auth/**"), List.of("POST")));
+        properties.getPolicies().put("checkout", policy(KeyType.USER, 2, List.of("/api/v1/orders"), List.of("POST")));
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, warmupRequests = new WarmupRequests(), meterRegistry);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void overCapacity_returns429WithRetryAfter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(send("POST", "/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse rejected = send("POST", "/api/v1/auth/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isBetween(1L, 60L);
+        assertThat(rejected.getContentAsString()).contains("\"status\":429");
+        assertThat(count("auth", "allowed")).isEqualTo(3);
+        assertThat(count("auth", "rejected")).isEqualTo(1);
+
+        // Another client has its own bucket
+        assertThat(send("POST", "/api/v1/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void userPolicy_keysOnUserAcrossAddresses() throws Exception {
+        JwtUserPrincipal principal = new JwtUserPrincipal(7L, "buyer@test.com", List.of("ROLE_USER"), null, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        assertThat(send("POST", "/api/v1/orders", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/v1/orders", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/v1/orders", "10.0.0.3").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void unmatchedRoutes_passThroughUncounted() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("GET", "/api/v1/auth/me", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(send("GET", "/api/v1/orders", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+
+        assertThat(meterRegistry.get("http.rate.limit.buckets").gauge().value()).isZero();
+    }
+
+    @Test
+    void warmupToken_isOnlyHonouredFromLoopback() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("POST", "/api/v1/auth/login", "127.0.0.1", warmupRequests.token()).getStatus()).isEqualTo(200);
+        }
+        assertThat(count("auth", "allowed")).isZero();
+
+        // The loopback bucket is untouched; a wrong token or a remote caller is limited as usual
+        assertThat(send("POST", "/api/v1/auth/login", "127.0.0.1", "guess").getStatus()).isEqualTo(200);
+        for (int i = 0; i < 3; i++) {
+            send("POST", "/api/v1/auth/login", "10.0.0.1", warmupRequests.token());
+        }
+        assertThat(send("POST", "/api/v1/auth/login", "10.0.0.1", warmupRequests.token()).getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr) throws Exception {
+        return send(method, path, remoteAddr, null);
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr, String warmupToken) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        if (warmupToken != null) {
+            request.addHeader(WarmupRequests.HEADER, warmupToken);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private double count(String policy, String outcome) {
+        return meterRegistry.get("http.rate.limit.requests").tag("policy", policy).tag("outcome", outcome).counter().count();
+    }
+
+    private static Policy policy(KeyType key, long capacity, List<String> paths, List<String> methods) {
+        Policy policy = new Policy();
+        policy.setKey(key);
+        policy.setCapacity(capacity);
+        policy.setRefillPeriod(Duration.ofMinutes(1));
+        policy.setPaths(paths);
+        policy.setMethods(methods);
+        return policy;
+    }
+}
@@ -0,0 +1,59 @@
+package com.abhishek.ecommerce.support;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts a slim context on the h2 profile: DataSource, JPA and transactions only, plus
+ * whatever the given config adds (entity/repository scan, the beans under test)
+ *
+ * Each database name is its own in-memory database; contexts started with the same name share it.
+ * Unlike @DataJpaTest nothing runs inside a rolled-back test transaction, so commits, second-level
+ * cache and statement counts behave as in the application.
+ */
+public final class H2Contexts {
+
+    private H2Contexts() {
+    }
+
+    /**
+     * @param overrides extra or replaced properties as {@code key=value}
+     */
+    public static ConfigurableApplicationContext start(Class<?> config, String database, String... overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "h2");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        for (String override : overrides) {
+            int separator = override.indexOf('=');
+            properties.put(override.substring(0, separator), override.substring(separator + 1));
+        }
+
+        // Command line arguments, so they win over application-h2.yml
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(JpaAutoConfiguration.class, config)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    // Not @Configuration, so the application's component scan never picks it up
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    static class JpaAutoConfiguration {
+    }
+}
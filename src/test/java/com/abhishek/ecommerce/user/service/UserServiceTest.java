@@ -1,5 +1,8 @@
 package com.abhishek.ecommerce.user.service;
 
+import com.abhishek.ecommerce.config.cache.NegativeLookupCache;
+import com.abhishek.ecommerce.security.authorization.RoleVersions;
+import com.abhishek.ecommerce.security.jwt.SecurityVersions;
 import com.abhishek.ecommerce.notification.NotificationService;
 import com.abhishek.ecommerce.user.dto.request.UserCreateRequestDto;
 import com.abhishek.ecommerce.user.dto.request.UserUpdateRequestDto;
@@ -46,6 +49,15 @@ class UserServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private SecurityVersions securityVersions;
+
+    @Mock
+    private RoleVersions roleVersions;
+
     @InjectMocks
     private UserServiceImpl userService;
 